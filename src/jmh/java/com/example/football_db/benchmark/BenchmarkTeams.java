@@ -0,0 +1,42 @@
+package com.example.football_db.benchmark;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.CreatePlayerDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.entity.Player;
+import com.example.football_db.entity.Team;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic team fixtures shared by the benchmarks.
+ */
+public final class BenchmarkTeams {
+    private static final PlayerPosition[] POSITIONS = PlayerPosition.values();
+
+    private BenchmarkTeams() {
+    }
+
+    public static CreateTeamDTO createTeamDTO(int index, int playerCount) {
+        CreateTeamDTO team = new CreateTeamDTO();
+        team.setName(String.format("Team %06d", index));
+        team.setAcronym("T" + index);
+        team.setBudget(new BigDecimal("1250000.00"));
+        List<CreatePlayerDTO> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new CreatePlayerDTO("Player " + index + "-" + i, POSITIONS[i % POSITIONS.length]));
+        }
+        team.setPlayers(players);
+        return team;
+    }
+
+    public static Team team(int index, int playerCount) {
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player("Player " + index + "-" + i, POSITIONS[i % POSITIONS.length]));
+        }
+        return new Team(String.format("Team %06d", index), "T" + index, players, new BigDecimal("1250000.00"));
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.football_db.benchmark;
+
+import com.example.football_db.constant.PlayerPosition;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roster load latency with the former {@code teams_players} join table and with the {@code players.team_id}
+ * foreign key, on an embedded PostgreSQL seeded with 10,000 teams of 25 players.
+ * <p>
+ * The join-table layout is the one Hibernate generated for the unidirectional {@code Team.players}: a
+ * {@code teams_players} table with a unique key on the player only. The foreign-key layout is the Flyway schema,
+ * with the index on {@code players.team_id}. Both run the statements of a roster fetch join over plain JDBC, for
+ * one team and for a page of 20 teams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RosterLoadBenchmark {
+    private static final int TEAM_COUNT = 10_000;
+    private static final int PLAYERS_PER_TEAM = 25;
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 1000;
+    private static final PlayerPosition[] POSITIONS = PlayerPosition.values();
+
+    @Param({"join-table", "team-id"})
+    public String layout;
+
+    private EmbeddedPostgres postgres;
+    private Connection connection;
+    private PreparedStatement loadTeam;
+    private PreparedStatement loadPage;
+    private UUID[] teamIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        connection = DriverManager.getConnection(
+                postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+        boolean joinTable = "join-table".equals(layout);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table teams (id uuid primary key, name varchar(255) not null)");
+            statement.execute("create table players (id uuid primary key, name varchar(255) not null, "
+                    + "position varchar(16), team_id uuid references teams)");
+            if (joinTable) {
+                statement.execute("create table teams_players (team_id uuid not null references teams, "
+                        + "players_id uuid not null unique references players)");
+            } else {
+                statement.execute("create index idx_players_team_id on players (team_id)");
+                statement.execute("create index idx_players_team_id_position on players (team_id, position)");
+            }
+        }
+        seed(joinTable);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        }
+
+        String roster = joinTable
+                ? "select t.id, t.name, p.id, p.name, p.position from teams t "
+                        + "left join teams_players tp on tp.team_id = t.id left join players p on p.id = tp.players_id "
+                : "select t.id, t.name, p.id, p.name, p.position from teams t "
+                        + "left join players p on p.team_id = t.id ";
+        loadTeam = connection.prepareStatement(roster + "where t.id = ?");
+        loadPage = connection.prepareStatement(roster + "where t.id = any (?)");
+    }
+
+    private void seed(boolean joinTable) throws SQLException {
+        connection.setAutoCommit(false);
+        teamIds = new UUID[TEAM_COUNT];
+        try (PreparedStatement insertTeam = connection.prepareStatement("insert into teams (id, name) values (?, ?)");
+             PreparedStatement insertPlayer = connection.prepareStatement(
+                     "insert into players (id, name, position, team_id) values (?, ?, ?, ?)");
+             PreparedStatement insertLink = connection.prepareStatement(
+                     "insert into teams_players (team_id, players_id) values (?, ?)")) {
+            for (int i = 0; i < TEAM_COUNT; i++) {
+                UUID teamId = UuidVersion7Strategy.INSTANCE.generateUuid(null);
+                teamIds[i] = teamId;
+                insertTeam.setObject(1, teamId);
+                insertTeam.setString(2, String.format("Team %06d", i));
+                insertTeam.addBatch();
+            }
+            insertTeam.executeBatch();
+            for (int i = 0; i < TEAM_COUNT; i++) {
+                for (int j = 0; j < PLAYERS_PER_TEAM; j++) {
+                    UUID playerId = UuidVersion7Strategy.INSTANCE.generateUuid(null);
+                    insertPlayer.setObject(1, playerId);
+                    insertPlayer.setString(2, "Player " + i + "-" + j);
+                    insertPlayer.setString(3, POSITIONS[j % POSITIONS.length].name());
+                    // The join-table mapping never wrote players.team_id
+                    insertPlayer.setObject(4, joinTable ? null : teamIds[i]);
+                    insertPlayer.addBatch();
+                    if (joinTable) {
+                        insertLink.setObject(1, teamIds[i]);
+                        insertLink.setObject(2, playerId);
+                        insertLink.addBatch();
+                    }
+                }
+                if ((i + 1) * PLAYERS_PER_TEAM % BATCH_SIZE == 0) {
+                    insertPlayer.executeBatch();
+                    insertLink.executeBatch();
+                }
+            }
+            insertPlayer.executeBatch();
+            insertLink.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public int loadTeam() throws SQLException {
+        loadTeam.setObject(1, teamIds[ThreadLocalRandom.current().nextInt(TEAM_COUNT)]);
+        return count(loadTeam);
+    }
+
+    @Benchmark
+    public int loadPage() throws SQLException {
+        int first = ThreadLocalRandom.current().nextInt(TEAM_COUNT / PAGE_SIZE) * PAGE_SIZE;
+        loadPage.setArray(1, connection.createArrayOf("uuid",
+                Arrays.copyOfRange(teamIds, first, first + PAGE_SIZE)));
+        return count(loadPage);
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
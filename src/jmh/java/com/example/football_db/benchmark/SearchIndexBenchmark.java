@@ -0,0 +1,93 @@
+package com.example.football_db.benchmark;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.dto.search.SearchResultDTO;
+import com.example.football_db.dto.search.TeamHitDTO;
+import com.example.football_db.search.SearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead query latency of the in-memory search index at 1M players (40,000 teams of 25).
+ * <p>
+ * Names are drawn from first names and three-syllable surnames, so common prefixes match tens of
+ * thousands of players while full surnames match a few hundred.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SearchIndexBenchmark {
+    private static final int TEAMS = 40_000;
+    private static final int PLAYERS_PER_TEAM = 25;
+    private static final int LIMIT = 10;
+    private static final PlayerPosition[] POSITIONS = PlayerPosition.values();
+    private static final String[] FIRST_NAMES = {
+            "Kylian", "Antoine", "Olivier", "Hugo", "Paul", "Ousmane", "Karim", "Theo", "Lucas", "Jules",
+            "Aurelien", "Eduardo", "Adrien", "Mike", "Benjamin", "Raphael", "Dayot", "Marcus", "Randal", "Jean",
+            "Nicolas", "Youssouf", "Ibrahima", "Mathys", "Warren", "Bradley", "Alphonse", "Moussa", "Rayan", "Desire"
+    };
+    private static final String[] SYLLABLES = {
+            "ba", "be", "bou", "da", "de", "di", "ga", "ka", "ke", "la", "le", "lou", "ma", "me", "mi", "na",
+            "ne", "ni", "pa", "pe", "ra", "re", "ri", "sa", "se", "ta", "te", "to", "va", "ze"
+    };
+
+    /**
+     * Common prefix, first name + surname prefix, full surname, team words, no match.
+     */
+    @Param({"ma", "kylian mab", "mabelou", "fc lyon 12", "zzz"})
+    private String query;
+
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new SearchIndex();
+        for (int t = 0; t < TEAMS; t++) {
+            UUID teamId = new UUID(random.nextLong(), random.nextLong());
+            String teamName = String.format("FC %s %d", surname(random), t);
+            index.addTeam(new TeamHitDTO(teamId, teamName, "FC" + t));
+            for (int p = 0; p < PLAYERS_PER_TEAM; p++) {
+                String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + surname(random);
+                index.addPlayer(new PlayerSummaryDTO(new UUID(random.nextLong(), random.nextLong()), name,
+                        POSITIONS[p % POSITIONS.length], teamId, teamName));
+            }
+        }
+        // A few teams and players every query word can find
+        for (int t = 0; t < 20; t++) {
+            UUID teamId = UUID.randomUUID();
+            index.addTeam(new TeamHitDTO(teamId, "FC Lyon " + (120 + t), "FCL"));
+            index.addPlayer(new PlayerSummaryDTO(UUID.randomUUID(), "Kylian Mabelou", PlayerPosition.ATTAQUANT,
+                    teamId, null));
+        }
+    }
+
+    @Benchmark
+    public SearchResultDTO search() {
+        return new SearchResultDTO(index.searchTeams(query, LIMIT), index.searchPlayers(query, LIMIT));
+    }
+
+    private static String surname(Random random) {
+        String name = SYLLABLES[random.nextInt(SYLLABLES.length)]
+                + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                + SYLLABLES[random.nextInt(SYLLABLES.length)];
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.football_db.benchmark;
+
+import com.example.football_db.FootballDbApplication;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.service.TeamService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * In-process TeamController calls through the full MVC stack (routing, Jackson, service, JPA)
+ * against an embedded PostgreSQL, seeded with 1000 teams of 25 players.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TeamControllerBenchmark {
+    private static final int TEAM_COUNT = 1000;
+    private static final int PLAYERS_PER_TEAM = 25;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private List<UUID> teamIds;
+    private byte[] createTeamJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        context = new SpringApplicationBuilder(FootballDbApplication.class)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=postgres",
+                        "server.port=0",
+                        "logging.level.com.example=WARN")
+                .run();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        TeamService teamService = context.getBean(TeamService.class);
+        List<CreateTeamDTO> teams = new ArrayList<>(TEAM_COUNT);
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            teams.add(BenchmarkTeams.createTeamDTO(i, PLAYERS_PER_TEAM));
+        }
+        teamIds = teamService.saveAll(teams);
+        createTeamJson = context.getBean(JsonMapper.class)
+                .writeValueAsBytes(BenchmarkTeams.createTeamDTO(TEAM_COUNT, PLAYERS_PER_TEAM));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public byte[] findById() throws Exception {
+        UUID id = teamIds.get(ThreadLocalRandom.current().nextInt(teamIds.size()));
+        return mockMvc.perform(get("/api/v1/teams/{id}", id))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] findPageWithRosters() throws Exception {
+        int page = ThreadLocalRandom.current().nextInt(TEAM_COUNT / 20);
+        return mockMvc.perform(get("/api/v1/teams").param("page", String.valueOf(page)).param("size", "20")
+                        .param("sort", "name"))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] findSummaryPage() throws Exception {
+        int page = ThreadLocalRandom.current().nextInt(TEAM_COUNT / 20);
+        return mockMvc.perform(get("/api/v1/teams/summaries").param("page", String.valueOf(page))
+                        .param("size", "20").param("sort", "name"))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] save() throws Exception {
+        return mockMvc.perform(post("/api/v1/teams").contentType(MediaType.APPLICATION_JSON).content(createTeamJson))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
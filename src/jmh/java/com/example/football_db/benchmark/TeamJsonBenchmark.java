@@ -0,0 +1,73 @@
+package com.example.football_db.benchmark;
+
+import com.example.football_db.dto.player.PlayerDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the team payloads: TeamDTO responses and CreateTeamDTO request bodies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamJsonBenchmark {
+    @Param({"0", "25", "100"})
+    private int players;
+
+    private ObjectWriter teamWriter;
+    private ObjectWriter createTeamWriter;
+    private ObjectReader createTeamReader;
+    private TeamDTO team;
+    private CreateTeamDTO createTeam;
+    private byte[] createTeamJson;
+
+    @Setup
+    public void setUp() {
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        teamWriter = jsonMapper.writerFor(TeamDTO.class);
+        createTeamWriter = jsonMapper.writerFor(CreateTeamDTO.class);
+        createTeamReader = jsonMapper.readerFor(CreateTeamDTO.class);
+        createTeam = BenchmarkTeams.createTeamDTO(1, players);
+        team = new TeamDTO(UUID.randomUUID(), createTeam.getName(), createTeam.getAcronym(), createTeam.getBudget(),
+                createTeam.getPlayers().stream()
+                        .map(player -> new PlayerDTO(UUID.randomUUID(), player.getName(), player.getPosition()))
+                        .toList(),
+                0L);
+        createTeamJson = createTeamWriter.writeValueAsBytes(createTeam);
+    }
+
+    @Benchmark
+    public byte[] serializeTeam() {
+        return teamWriter.writeValueAsBytes(team);
+    }
+
+    @Benchmark
+    public byte[] serializeCreateTeam() {
+        return createTeamWriter.writeValueAsBytes(createTeam);
+    }
+
+    @Benchmark
+    public CreateTeamDTO deserializeCreateTeam() {
+        return createTeamReader.readValue(createTeamJson);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.football_db.benchmark;
+
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.entity.Team;
+import com.example.football_db.repository.TeamRepository;
+import com.example.football_db.service.TeamServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping cost per roster size, through {@link TeamServiceImpl#getTeamById} on a repository that
+ * returns the same team from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamMappingBenchmark {
+    @Param({"0", "25", "100"})
+    private int players;
+
+    private TeamServiceImpl teamService;
+    private UUID id;
+
+    @Setup
+    public void setUp() {
+        Team team = BenchmarkTeams.team(1, players);
+        id = UUID.randomUUID();
+        TeamRepository teamRepository = (TeamRepository) Proxy.newProxyInstance(
+                TeamRepository.class.getClassLoader(), new Class<?>[]{TeamRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return Optional.of(team);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        // getTeamById only reads from the repository
+        teamService = new TeamServiceImpl(teamRepository, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public TeamDTO toDTO() {
+        return teamService.getTeamById(id);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.football_db.benchmark;
+
+import com.example.football_db.FootballDbApplication;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.service.TeamService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation of one 100-team page with rosters, read in the service's read-only transaction
+ * or inside a read-write transaction (entity snapshots, dirty checking and flush at commit).
+ * Compare {@code gc.alloc.rate.norm} (bytes per call) between the two modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TeamPageAllocationBenchmark {
+    private static final int TEAM_COUNT = 100;
+    private static final int PLAYERS_PER_TEAM = 25;
+
+    @Param({"true", "false"})
+    public boolean readOnly;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private TeamService teamService;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        context = new SpringApplicationBuilder(FootballDbApplication.class)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=postgres",
+                        "server.port=0",
+                        // Read rosters from the database on every call, not from the second-level cache
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "logging.level.com.example=WARN")
+                .run();
+
+        teamService = context.getBean(TeamService.class);
+        List<CreateTeamDTO> teams = new ArrayList<>(TEAM_COUNT);
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            teams.add(BenchmarkTeams.createTeamDTO(i, PLAYERS_PER_TEAM));
+        }
+        teamService.saveAll(teams);
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public Page<TeamDTO> findPage() {
+        // The service method joins the surrounding transaction, which decides the read-only mode
+        return transactionTemplate.execute(status ->
+                teamService.getAllTeams(PageRequest.of(0, TEAM_COUNT, Sort.by("name"))));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.football_db.benchmark;
+
+import com.example.football_db.constant.PlayerPosition;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk insert of player-shaped rows keyed by random (v4) or time-ordered (v7) UUIDs into an embedded PostgreSQL.
+ * <p>
+ * Each trial loads {@code rows} rows into a fresh table in JDBC batches, one transaction per batch, and prints
+ * the insert rate and the size of the two uuid indexes. v7 keys are generated by Hibernate's strategy, as for the entities.
+ * The default is 10M rows; {@code -p rows=1000000} gives a quicker run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class UuidInsertBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final int PLAYERS_PER_TEAM = 25;
+    private static final PlayerPosition[] POSITIONS = PlayerPosition.values();
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    @Param({"10000000"})
+    public int rows;
+
+    private EmbeddedPostgres postgres;
+    private Connection connection;
+    private long startNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        // Batches are sent as multi-row inserts, as configured for the application
+        connection = DriverManager.getConnection(
+                postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table players (id uuid primary key, name varchar(255) not null, "
+                    + "position varchar(16), team_id uuid not null)");
+            statement.execute("create index idx_players_team_id_position on players (team_id, position)");
+        }
+        connection.setAutoCommit(false);
+        startNanos = System.nanoTime();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        try (Statement statement = connection.createStatement();
+             ResultSet sizes = statement.executeQuery("select pg_size_pretty(pg_relation_size('players_pkey')), "
+                     + "pg_size_pretty(pg_relation_size('idx_players_team_id_position'))")) {
+            sizes.next();
+            System.out.printf("%n%s: %,d rows, %,.0f rows/s, primary key %s, team index %s%n",
+                    version, rows, rows / seconds, sizes.getString(1), sizes.getString(2));
+        }
+        connection.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public void insert() throws SQLException {
+        boolean timeOrdered = "v7".equals(version);
+        UUID teamId = null;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into players (id, name, position, team_id) values (?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                if (i % PLAYERS_PER_TEAM == 0) {
+                    teamId = nextId(timeOrdered);
+                }
+                insert.setObject(1, nextId(timeOrdered));
+                insert.setString(2, "Player " + i);
+                insert.setString(3, POSITIONS[i % POSITIONS.length].name());
+                insert.setObject(4, teamId);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i + 1 == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private static UUID nextId(boolean timeOrdered) {
+        return timeOrdered ? UuidVersion7Strategy.INSTANCE.generateUuid(null) : UUID.randomUUID();
+    }
+}
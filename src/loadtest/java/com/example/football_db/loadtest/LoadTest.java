@@ -0,0 +1,206 @@
+package com.example.football_db.loadtest;
+
+import com.example.football_db.FootballDbApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Boots the application against an embedded PostgreSQL, seeds teams, then drives a closed-loop mix of
+ * reads and writes on {@code /api/v1/teams} from a fixed number of clients.
+ * <p>
+ * Latencies are recorded per endpoint in HdrHistograms (microseconds) and written as a JSON report.
+ * The run fails when an endpoint exceeds {@code loadtest.max-p99-ms}, so it can gate a deploy.
+ * Clients run on virtual threads so thousands of them can be simulated; the server side follows
+ * {@code spring.threads.virtual.enabled}, and carrier-thread pinning is reported from JFR events.
+ * Connection pool utilization and wait times are sampled from the application's HikariCP meters.
+ * Program arguments are passed to Spring Boot, e.g. {@code --spring.profiles.active=...}.
+ */
+public final class LoadTest {
+    private final LoadTestSettings settings;
+    private final boolean virtualThreads;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private volatile boolean running = true;
+
+    private LoadTest(LoadTestSettings settings, boolean virtualThreads) {
+        this.settings = settings;
+        this.virtualThreads = virtualThreads;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        EmbeddedPostgres postgres = settings.getJdbcUrl().isBlank() ? EmbeddedPostgres.start() : null;
+        String jdbcUrl = postgres != null ? postgres.getJdbcUrl("postgres", "postgres") : settings.getJdbcUrl();
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FootballDbApplication.class)
+                .properties(
+                        "spring.datasource.url=" + jdbcUrl,
+                        "server.port=0",
+                        "logging.level.com.example=WARN")
+                .properties(postgres != null
+                        ? new String[]{"spring.datasource.username=postgres", "spring.datasource.password=postgres"}
+                        : new String[0])
+                .run(args)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            boolean virtualThreads = context.getEnvironment()
+                    .getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+            exitCode = new LoadTest(settings, virtualThreads).run(URI.create("http://localhost:" + port),
+                    context.getBean(JsonMapper.class), new PoolMonitor(context.getBean(MeterRegistry.class)));
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private int run(URI baseUri, JsonMapper jsonMapper, PoolMonitor poolMonitor) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        TeamTraffic traffic = new TeamTraffic(httpClient, jsonMapper, baseUri, settings.getPlayersPerTeam());
+        traffic.seed(settings.getTeams());
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        double seconds;
+        Map<String, Object> pinning = new LinkedHashMap<>();
+        Map<String, Object> pool;
+        try (PinningMonitor pinningMonitor = new PinningMonitor(settings.getPinnedThreshold())) {
+            ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+            for (int i = 0; i < settings.getConcurrency(); i++) {
+                clients.execute(() -> drive(traffic));
+            }
+            Thread.sleep(settings.getWarmup());
+            recorders.values().forEach(Recorder::reset);
+            errors.values().forEach(LongAdder::reset);
+
+            long start = System.nanoTime();
+            poolMonitor.start();
+            Thread.sleep(settings.getDuration());
+            recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+            seconds = (System.nanoTime() - start) / 1e9;
+            pool = poolMonitor.stop();
+            running = false;
+            clients.shutdown();
+            clients.awaitTermination(1, TimeUnit.MINUTES);
+
+            // Client threads are virtual too, so pinning in the HTTP client also shows up here
+            pinning.put("events", pinningMonitor.getEvents());
+            pinning.put("topSites", pinningMonitor.getTopSites());
+        }
+
+        Map<String, Object> report = report(histograms, seconds);
+        report.put("pool", pool);
+        report.put("pinning", pinning);
+        Files.createDirectories(settings.getReport().toAbsolutePath().getParent());
+        jsonMapper.rebuild().enable(SerializationFeature.INDENT_OUTPUT).build()
+                .writeValue(settings.getReport().toFile(), report);
+        System.out.printf("Pool: utilization %.0f%%, pending max %.0f, acquire mean %.2f ms, timeouts %.0f%n",
+                (double) pool.get("utilization") * 100, pool.get("pendingMax"), pool.get("acquireMeanMs"),
+                pool.get("acquireTimeouts"));
+        System.out.printf("Virtual threads: %s, pinned events: %s%n", virtualThreads, pinning.get("events"));
+        System.out.printf("Load test report written to %s%n", settings.getReport().toAbsolutePath());
+        return checkBudget(histograms);
+    }
+
+    private void drive(TeamTraffic traffic) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running) {
+            Operation operation = Operation.pick(settings.getWritePercent(), random.nextInt(100), random.nextInt(100));
+            long start = System.nanoTime();
+            try {
+                int status = traffic.execute(operation);
+                if (status >= 400) {
+                    errors.get(operation).increment();
+                }
+            } catch (Exception e) {
+                errors.get(operation).increment();
+            }
+            recorders.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+
+    private Map<String, Object> report(Map<Operation, Histogram> histograms, double seconds) {
+        Map<String, Object> settingsReport = new LinkedHashMap<>();
+        settingsReport.put("concurrency", settings.getConcurrency());
+        settingsReport.put("warmupSeconds", settings.getWarmup().toSeconds());
+        settingsReport.put("durationSeconds", settings.getDuration().toSeconds());
+        settingsReport.put("teams", settings.getTeams());
+        settingsReport.put("playersPerTeam", settings.getPlayersPerTeam());
+        settingsReport.put("writePercent", settings.getWritePercent());
+        settingsReport.put("virtualThreads", virtualThreads);
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        long totalCount = 0;
+        System.out.printf("%-32s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            long count = histogram.getTotalCount();
+            totalCount += count;
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", entry.getKey().getEndpoint());
+            endpoint.put("requests", count);
+            endpoint.put("errors", errors.get(entry.getKey()).sum());
+            endpoint.put("throughput", count / seconds);
+            endpoint.put("p50Ms", millis(histogram, 50));
+            endpoint.put("p90Ms", millis(histogram, 90));
+            endpoint.put("p99Ms", millis(histogram, 99));
+            endpoint.put("p999Ms", millis(histogram, 99.9));
+            endpoint.put("maxMs", histogram.getMaxValue() / 1000.0);
+            endpoints.add(endpoint);
+            System.out.printf("%-32s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    entry.getKey().getEndpoint(), count, errors.get(entry.getKey()).sum(), count / seconds,
+                    millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settingsReport);
+        report.put("throughput", totalCount / seconds);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private int checkBudget(Map<Operation, Histogram> histograms) {
+        if (settings.getMaxP99Millis() <= 0) {
+            return 0;
+        }
+        int exitCode = 0;
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            double p99 = millis(entry.getValue(), 99);
+            if (p99 > settings.getMaxP99Millis()) {
+                System.out.printf("p99 budget exceeded for %s: %.2f ms > %.2f ms%n",
+                        entry.getKey().getEndpoint(), p99, settings.getMaxP99Millis());
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.football_db.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load-test knobs, read from {@code -Dloadtest.*} system properties.
+ */
+final class LoadTestSettings {
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int teams;
+    private final int playersPerTeam;
+    private final int writePercent;
+    private final String jdbcUrl;
+    private final Path report;
+    private final double maxP99Millis;
+    private final Duration pinnedThreshold;
+
+    private LoadTestSettings(int concurrency, Duration warmup, Duration duration, int teams, int playersPerTeam,
+                             int writePercent, String jdbcUrl, Path report, double maxP99Millis,
+                             Duration pinnedThreshold) {
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.teams = teams;
+        this.playersPerTeam = playersPerTeam;
+        this.writePercent = writePercent;
+        this.jdbcUrl = jdbcUrl;
+        this.report = report;
+        this.maxP99Millis = maxP99Millis;
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                Integer.getInteger("loadtest.teams", 1000),
+                Integer.getInteger("loadtest.players", 25),
+                Integer.getInteger("loadtest.write-percent", 20),
+                System.getProperty("loadtest.jdbc-url", ""),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json")),
+                Double.parseDouble(System.getProperty("loadtest.max-p99-ms", "0")),
+                Duration.ofMillis(Long.getLong("loadtest.pinned-threshold-ms", 20)));
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+    Duration getWarmup() {
+        return warmup;
+    }
+    Duration getDuration() {
+        return duration;
+    }
+    int getTeams() {
+        return teams;
+    }
+    int getPlayersPerTeam() {
+        return playersPerTeam;
+    }
+    int getWritePercent() {
+        return writePercent;
+    }
+    /**
+     * External database to run against; blank means start an embedded PostgreSQL.
+     */
+    String getJdbcUrl() {
+        return jdbcUrl;
+    }
+    Path getReport() {
+        return report;
+    }
+    /**
+     * p99 budget in milliseconds applied to every endpoint; 0 disables the check.
+     */
+    double getMaxP99Millis() {
+        return maxP99Millis;
+    }
+    /**
+     * Minimum blocking time for a pinned virtual thread to be reported.
+     */
+    Duration getPinnedThreshold() {
+        return pinnedThreshold;
+    }
+}
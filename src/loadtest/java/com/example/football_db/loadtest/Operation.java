@@ -0,0 +1,44 @@
+package com.example.football_db.loadtest;
+
+/**
+ * Endpoints exercised by the load test, with their share of read or write traffic.
+ */
+enum Operation {
+    GET_BY_ID("GET /api/v1/teams/{id}", false, 40),
+    GET_PAGE("GET /api/v1/teams", false, 20),
+    GET_SUMMARIES("GET /api/v1/teams/summaries", false, 20),
+    SCROLL("GET /api/v1/teams/scroll", false, 20),
+    CREATE("POST /api/v1/teams", true, 60),
+    UPDATE("PUT /api/v1/teams/{id}", true, 40);
+
+    private final String endpoint;
+    private final boolean write;
+    private final int weight;
+
+    Operation(String endpoint, boolean write, int weight) {
+        this.endpoint = endpoint;
+        this.write = write;
+        this.weight = weight;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Pick an operation: a write with the given probability, then weighted within reads or writes.
+     */
+    static Operation pick(int writePercent, int percentRoll, int weightRoll) {
+        boolean write = percentRoll < writePercent;
+        int remaining = weightRoll;
+        for (Operation operation : values()) {
+            if (operation.write == write) {
+                remaining -= operation.weight;
+                if (remaining < 0) {
+                    return operation;
+                }
+            }
+        }
+        throw new IllegalStateException("Weights of each group must sum to 100");
+    }
+}
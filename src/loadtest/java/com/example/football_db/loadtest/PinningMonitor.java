@@ -0,0 +1,72 @@
+package com.example.football_db.loadtest;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts JFR {@code jdk.VirtualThreadPinned} events (a virtual thread blocking while pinned to its
+ * carrier, e.g. inside {@code synchronized}) and groups them by the first non-JDK frame.
+ */
+final class PinningMonitor implements AutoCloseable {
+    private static final int TOP_SITES = 10;
+
+    private final RecordingStream stream = new RecordingStream();
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+
+    PinningMonitor(Duration threshold) {
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::record);
+        stream.startAsync();
+    }
+
+    private void record(RecordedEvent event) {
+        events.increment();
+        sites.computeIfAbsent(site(event), site -> new LongAdder()).increment();
+    }
+
+    private static String site(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "jdk";
+    }
+
+    long getEvents() {
+        return events.sum();
+    }
+
+    /**
+     * Most frequent pinning sites, most frequent first.
+     */
+    Map<String, Long> getTopSites() {
+        Map<String, Long> top = new LinkedHashMap<>();
+        List<Map.Entry<String, LongAdder>> entries = sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum())
+                        .reversed())
+                .limit(TOP_SITES)
+                .toList();
+        entries.forEach(entry -> top.put(entry.getKey(), entry.getValue().sum()));
+        return top;
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.football_db.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the HikariCP pool meters ({@code hikaricp.connections.*}) during the measured window:
+ * utilization, threads waiting for a connection, acquire time and acquire timeouts.
+ */
+final class PoolMonitor {
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(100);
+
+    private final Gauge active;
+    private final Gauge pending;
+    private final Gauge max;
+    private final Timer acquire;
+    private final Timer usage;
+    private final Counter timeouts;
+    private final Thread sampler;
+    private volatile boolean sampling = true;
+
+    private long samples;
+    private double activeSum;
+    private double activeMax;
+    private double pendingMax;
+    private long acquireCountStart;
+    private double acquireTotalStart;
+    private long usageCountStart;
+    private double usageTotalStart;
+    private double timeoutsStart;
+
+    PoolMonitor(MeterRegistry meterRegistry) {
+        this.active = meterRegistry.get("hikaricp.connections.active").gauge();
+        this.pending = meterRegistry.get("hikaricp.connections.pending").gauge();
+        this.max = meterRegistry.get("hikaricp.connections.max").gauge();
+        this.acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        this.usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        this.timeouts = meterRegistry.get("hikaricp.connections.timeout").counter();
+        this.sampler = Thread.ofVirtual().unstarted(this::sample);
+    }
+
+    void start() {
+        acquireCountStart = acquire.count();
+        acquireTotalStart = acquire.totalTime(TimeUnit.MILLISECONDS);
+        usageCountStart = usage.count();
+        usageTotalStart = usage.totalTime(TimeUnit.MILLISECONDS);
+        timeoutsStart = timeouts.count();
+        sampler.start();
+    }
+
+    Map<String, Object> stop() throws InterruptedException {
+        sampling = false;
+        sampler.join();
+        long acquireCount = acquire.count() - acquireCountStart;
+        long usageCount = usage.count() - usageCountStart;
+        double activeMean = samples > 0 ? activeSum / samples : 0;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("maxConnections", max.value());
+        report.put("activeMean", activeMean);
+        report.put("activeMax", activeMax);
+        report.put("utilization", max.value() > 0 ? activeMean / max.value() : 0);
+        report.put("pendingMax", pendingMax);
+        report.put("acquireCount", acquireCount);
+        report.put("acquireMeanMs", acquireCount > 0
+                ? (acquire.totalTime(TimeUnit.MILLISECONDS) - acquireTotalStart) / acquireCount : 0);
+        report.put("usageMeanMs", usageCount > 0
+                ? (usage.totalTime(TimeUnit.MILLISECONDS) - usageTotalStart) / usageCount : 0);
+        report.put("acquireTimeouts", timeouts.count() - timeoutsStart);
+        return report;
+    }
+
+    private void sample() {
+        while (sampling) {
+            double activeNow = active.value();
+            samples++;
+            activeSum += activeNow;
+            activeMax = Math.max(activeMax, activeNow);
+            pendingMax = Math.max(pendingMax, pending.value());
+            try {
+                Thread.sleep(SAMPLE_INTERVAL);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.football_db.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HTTP calls against {@code /api/v1/teams}, one method per {@link Operation}.
+ */
+final class TeamTraffic {
+    private static final String[] POSITIONS = {"GARDIEN", "DEFENSEUR", "MILIEU", "ATTAQUANT"};
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper;
+    private final URI teamsUri;
+    private final int playersPerTeam;
+    private List<String> teamIds = List.of();
+
+    TeamTraffic(HttpClient httpClient, JsonMapper jsonMapper, URI baseUri, int playersPerTeam) {
+        this.httpClient = httpClient;
+        this.jsonMapper = jsonMapper;
+        this.teamsUri = baseUri.resolve("/api/v1/teams");
+        this.playersPerTeam = playersPerTeam;
+    }
+
+    /**
+     * Create the initial teams through the bulk endpoint and remember their IDs for reads and updates.
+     */
+    void seed(int teams) throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < teams; i++) {
+            body.append(teamJson("Seed " + i)).append('\n');
+        }
+        HttpResponse<String> response = httpClient.send(request("/bulk")
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .timeout(Duration.ofMinutes(10))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+        }
+        List<String> ids = new ArrayList<>(teams);
+        for (JsonNode result : jsonMapper.readTree(response.body())) {
+            if ("CREATED".equals(result.get("status").asString())) {
+                ids.add(result.get("id").asString());
+            }
+        }
+        teamIds = List.copyOf(ids);
+    }
+
+    /**
+     * Run one operation and return its HTTP status.
+     */
+    int execute(Operation operation) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request = switch (operation) {
+            case GET_BY_ID -> request("/" + randomId()).GET().build();
+            case GET_PAGE -> request("?size=20&sort=name&page=" + random.nextInt(Math.max(1, teamIds.size() / 20)))
+                    .GET().build();
+            case GET_SUMMARIES -> request("/summaries?size=20&sort=name&page="
+                    + random.nextInt(Math.max(1, teamIds.size() / 20))).GET().build();
+            case SCROLL -> request("/scroll?size=20").GET().build();
+            case CREATE -> request("")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(teamJson("Load " + random.nextLong())))
+                    .build();
+            case UPDATE -> request("/" + randomId())
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"budget\":" + random.nextInt(1_000_000, 100_000_000) + "}"))
+                    .build();
+        };
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(teamsUri + path)).timeout(TIMEOUT);
+    }
+
+    private String randomId() {
+        return teamIds.get(ThreadLocalRandom.current().nextInt(teamIds.size()));
+    }
+
+    private String teamJson(String name) {
+        StringBuilder players = new StringBuilder();
+        for (int i = 0; i < playersPerTeam; i++) {
+            if (i > 0) {
+                players.append(',');
+            }
+            players.append("{\"name\":\"Player ").append(i).append("\",\"position\":\"")
+                    .append(POSITIONS[i % POSITIONS.length]).append("\"}");
+        }
+        return "{\"name\":\"" + name + "\",\"acronym\":\"LT\",\"budget\":50000000,\"players\":[" + players + "]}";
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.football_db.changes;
+
+import com.example.football_db.dto.team.TeamChangesDTO;
+import com.example.football_db.service.TeamChangeService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Long polling over the team change feed.
+ * <p>
+ * A poll that finds nothing new waits as a {@link DeferredResult}, holding neither a request thread nor a
+ * connection, until changes show up or the wait ends with an empty page. Waiting polls are checked again as soon
+ * as this instance commits a team change, and every poll interval for changes committed elsewhere (another
+ * instance, the replica catching up) or held back behind a transaction that was still running. Polls waiting at
+ * the same position share one query. Changes older than the retention are purged periodically.
+ */
+@Component
+public class TeamChangeFeed {
+    private static final Logger logger = LoggerFactory.getLogger(TeamChangeFeed.class);
+    private final TeamChangeService teamChangeService;
+    private final Duration retention;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("team-change-feed").daemon().factory());
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean checkScheduled = new AtomicBoolean();
+
+    public TeamChangeFeed(TeamChangeService teamChangeService,
+                          @Value("${football-db.team-changes.poll-interval:1s}") Duration pollInterval,
+                          @Value("${football-db.team-changes.retention:7d}") Duration retention,
+                          @Value("${football-db.team-changes.purge-interval:1h}") Duration purgeInterval) {
+        this.teamChangeService = teamChangeService;
+        this.retention = retention;
+        scheduler.scheduleWithFixedDelay(this::checkWaiters, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purge, purgeInterval.toMillis(), purgeInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The changes following the cursor, at most {@code limit}; when there are none yet, wait for them up to
+     * {@code wait} before answering with an empty page.
+     */
+    public DeferredResult<TeamChangesDTO> poll(String cursor, int limit, Duration wait) {
+        TeamChangesDTO changes = teamChangeService.getChangesAfter(cursor, limit);
+        DeferredResult<TeamChangesDTO> result = new DeferredResult<>(wait.toMillis(), changes);
+        if (!changes.getChanges().isEmpty() || wait.isZero()) {
+            result.setResult(changes);
+            return result;
+        }
+        Waiter waiter = new Waiter(changes.getNextCursor(), limit, result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        return result;
+    }
+
+    /**
+     * Check the waiting polls once the current transaction commits; called after recording team changes.
+     */
+    public void changesRecorded() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleCheck();
+                }
+            });
+        } else {
+            scheduleCheck();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void scheduleCheck() {
+        // Commits arriving while a check is queued are covered by it
+        if (!waiters.isEmpty() && checkScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::checkWaiters);
+        }
+    }
+
+    private void checkWaiters() {
+        checkScheduled.set(false);
+        Map<String, TeamChangesDTO> pages = new HashMap<>();
+        try {
+            for (Waiter waiter : waiters) {
+                if (waiter.result.isSetOrExpired()) {
+                    continue;
+                }
+                TeamChangesDTO changes = pages.computeIfAbsent(waiter.cursor + "/" + waiter.limit,
+                        key -> teamChangeService.getChangesAfter(waiter.cursor, waiter.limit));
+                if (!changes.getChanges().isEmpty()) {
+                    waiter.result.setResult(changes);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Retried at the next check; waiting polls end with an empty page meanwhile
+            logger.warn("Team change feed check failed", e);
+        }
+    }
+
+    private void purge() {
+        try {
+            teamChangeService.deleteChangesBefore(Instant.now().minus(retention));
+        } catch (RuntimeException e) {
+            logger.warn("Team change purge failed", e);
+        }
+    }
+
+    private static final class Waiter {
+        private final String cursor;
+        private final int limit;
+        private final DeferredResult<TeamChangesDTO> result;
+
+        private Waiter(String cursor, int limit, DeferredResult<TeamChangesDTO> result) {
+            this.cursor = cursor;
+            this.limit = limit;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.football_db.config;
+
+import com.example.football_db.entity.Player;
+import com.example.football_db.entity.Team;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Local in-JVM second-level cache (Caffeine through JCache) for teams, players and rosters.
+ * <p>
+ * Regions are created here with their size and TTL and handed to Hibernate through its
+ * cache manager, so hit/miss/eviction statistics can be published as meters.
+ */
+@Configuration(proxyBeanMethods = false)
+public class HibernateCacheConfiguration {
+    public static final String TEAM_REGION = Team.class.getName();
+    public static final String TEAM_PLAYERS_REGION = Team.class.getName() + ".players";
+    public static final String PLAYER_REGION = Player.class.getName();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${football-db.cache.team.maximum-size:10000}") long teamMaximumSize,
+            @Value("${football-db.cache.player.maximum-size:250000}") long playerMaximumSize,
+            @Value("${football-db.cache.time-to-live:1h}") Duration timeToLive) {
+        // One manager per application context, so contexts sharing a JVM do not share regions
+        URI uri = URI.create("football-db:hibernate-" + System.identityHashCode(this));
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+        cacheManager.createCache(TEAM_REGION, region(teamMaximumSize, timeToLive));
+        cacheManager.createCache(TEAM_PLAYERS_REGION, region(teamMaximumSize, timeToLive));
+        cacheManager.createCache(PLAYER_REGION, region(playerMaximumSize, timeToLive));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> List.of(TEAM_REGION, TEAM_PLAYERS_REGION, PLAYER_REGION)
+                .forEach(region -> JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region)));
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration timeToLive) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
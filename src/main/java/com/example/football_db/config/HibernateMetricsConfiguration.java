@@ -0,0 +1,25 @@
+package com.example.football_db.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-query {@code hibernate.query} timers, tagged with the HQL, next to the session-wide
+ * {@code hibernate.*} statistics meters registered by Spring Boot.
+ * <p>
+ * Both are fed by Hibernate statistics, so {@code hibernate.generate_statistics} must be enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+public class HibernateMetricsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateQueryTimingCustomizer(ObjectProvider<MeterRegistry> meterRegistry) {
+        StatisticsFactory statisticsFactory = sessionFactory -> new QueryTimingStatistics(sessionFactory, meterRegistry);
+        return properties -> properties.put(StatisticsSettings.STATS_BUILDER, statisticsFactory);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.football_db.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate statistics that also record each query execution in a {@code hibernate.query} timer.
+ * <p>
+ * Query strings come from repository methods, so the {@code query} tag stays bounded.
+ */
+class QueryTimingStatistics extends StatisticsImpl {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    QueryTimingStatistics(SessionFactoryImplementor sessionFactory, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(sessionFactory);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        timers.computeIfAbsent(hql, query -> Timer.builder("hibernate.query")
+                        .description("Execution time of a Hibernate query")
+                        .tag("query", query)
+                        .register(meterRegistry.getObject()))
+                .record(time, TimeUnit.MILLISECONDS);
+    }
+}
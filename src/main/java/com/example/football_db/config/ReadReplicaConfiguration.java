@@ -0,0 +1,73 @@
+package com.example.football_db.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.transaction.autoconfigure.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read/write split, enabled when {@code football-db.datasource.replica.url} is set.
+ * <p>
+ * The primary pool is built from the usual {@code spring.datasource.*} properties and the replica pool
+ * copies its settings, so pool profiles apply to both. {@code @Transactional(readOnly = true)} service
+ * methods read from the replica; see {@link ReadWriteRoutingDataSource}. What they load is not put in the
+ * second-level cache; see {@link ReplicaReadTransactionManager}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "football-db.datasource.replica", name = "url")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${football-db.datasource.replica.url}") String url,
+            @Value("${football-db.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${football-db.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${football-db.datasource.replica.connection-timeout:2s}") Duration connectionTimeout) {
+        HikariConfig config = new HikariConfig();
+        primaryDataSource.copyStateTo(config);
+        config.setPoolName(primaryDataSource.getPoolName() + "-replica");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setConnectionTimeout(connectionTimeout.toMillis());
+        // Start even when the replica is down; reads fall back to the primary
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+            @Value("${football-db.datasource.replica.retry-after:30s}") Duration retryAfter) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, retryAfter));
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new ReplicaReadTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
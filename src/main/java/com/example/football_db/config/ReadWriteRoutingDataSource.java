@@ -0,0 +1,103 @@
+package com.example.football_db.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * When the replica cannot hand out a connection, the read falls back to the primary and the replica
+ * is skipped for {@code retryAfter}, so reads do not each wait for a replica connection timeout.
+ * Must be wrapped in a {@code LazyConnectionDataSourceProxy}: the read-only flag is only known once
+ * the transaction has started, after the transaction manager asked for its connection.
+ * <p>
+ * Reads that fill a cache run through {@link #onPrimary}: they stay read-only but see the latest writes,
+ * so a lagging replica's rows never end up cached.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    private static final ThreadLocal<Boolean> primaryPinned = new ThreadLocal<>();
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long retryAfterNanos;
+    private volatile long replicaRetryAt;
+    private volatile boolean replicaDown;
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration retryAfter) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryAfterNanos = retryAfter.toNanos();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Run an action whose transactions all use the primary, read-only ones included.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = primaryPinned.get();
+        primaryPinned.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                primaryPinned.remove();
+            }
+        }
+    }
+
+    /**
+     * Whether the current thread runs inside {@link #onPrimary}.
+     */
+    public static boolean isPrimaryPinned() {
+        return primaryPinned.get() != null;
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isPrimaryPinned()) {
+            return Route.PRIMARY;
+        }
+        return replicaDown && System.nanoTime() - replicaRetryAt < 0 ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                Connection connection = replica.getConnection();
+                if (replicaDown) {
+                    replicaDown = false;
+                    logger.info("Read replica available again");
+                }
+                return connection;
+            } catch (SQLException e) {
+                replicaRetryAt = System.nanoTime() + retryAfterNanos;
+                replicaDown = true;
+                logger.warn("Read replica unavailable, reading from primary - retry in: {} ms",
+                        retryAfterNanos / 1_000_000, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTargetDataSource().getConnection(username, password);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.football_db.config;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA transaction manager that keeps replica reads out of the second-level cache.
+ * <p>
+ * Read-only transactions go to the replica (see {@link ReadWriteRoutingDataSource}), which may lag behind the
+ * primary. Their sessions use {@link CacheMode#GET}: they read cached entries but never put what they loaded,
+ * so a write's eviction cannot be followed by the replica's pre-write rows going back into the cache for the
+ * region's whole time to live. Only sessions opened for the transaction are switched, as they are closed with it,
+ * and read-only transactions pinned to the primary with {@link ReadWriteRoutingDataSource#onPrimary} still fill it.
+ */
+public class ReplicaReadTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        EntityManagerFactory entityManagerFactory = obtainEntityManagerFactory();
+        boolean preBound = TransactionSynchronizationManager.hasResource(entityManagerFactory);
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly() && !preBound && !ReadWriteRoutingDataSource.isPrimaryPinned()) {
+            EntityManagerHolder holder =
+                    (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            EntityManager entityManager = holder.getEntityManager();
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+            // find() takes its store mode from the session properties rather than the cache mode
+            entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        }
+    }
+}
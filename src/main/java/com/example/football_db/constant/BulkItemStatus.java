@@ -0,0 +1,7 @@
+package com.example.football_db.constant;
+
+public enum BulkItemStatus {
+    CREATED,
+    INVALID,
+    FAILED
+}
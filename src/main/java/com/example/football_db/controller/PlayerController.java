@@ -0,0 +1,53 @@
+package com.example.football_db.controller;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.service.PlayerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for searching players across teams.
+ */
+@RestController
+@RequestMapping("/api/v1/players")
+public class PlayerController {
+    private static final Logger logger = LoggerFactory.getLogger(PlayerController.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private final PlayerService playerService;
+
+    public PlayerController(PlayerService playerService) {
+        this.playerService = playerService;
+    }
+
+    /**
+     * Search players by position, team and name prefix (case-insensitive), ordered by name,
+     * using an opaque cursor from the previous response.
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageDTO<PlayerSummaryDTO>> search(@RequestParam(required = false) PlayerPosition position,
+                                                                  @RequestParam(required = false) UUID teamId,
+                                                                  @RequestParam(required = false) String name,
+                                                                  @RequestParam(required = false) String after,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        CursorPageDTO<PlayerSummaryDTO> players = playerService.searchPlayers(position, teamId, name, after,
+                Math.clamp(size, 1, MAX_PAGE_SIZE));
+        logger.info("Retrieved {} players", players.getItems().size());
+        return ResponseEntity.ok(players);
+    }
+
+    /**
+     * Get player by ID.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<PlayerSummaryDTO> findById(@PathVariable UUID id) {
+        PlayerSummaryDTO player = playerService.getPlayerById(id);
+        logger.info("Player found - id: {}", id);
+        return ResponseEntity.ok(player);
+    }
+}
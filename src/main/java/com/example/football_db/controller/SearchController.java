@@ -0,0 +1,37 @@
+package com.example.football_db.controller;
+
+import com.example.football_db.dto.search.SearchResultDTO;
+import com.example.football_db.service.SearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for type-ahead search across teams and players.
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+public class SearchController {
+    private static final Logger logger = LoggerFactory.getLogger(SearchController.class);
+    private static final int MAX_LIMIT = 50;
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Search teams by name or acronym and players by name; every word of the query is a word prefix.
+     */
+    @GetMapping
+    public ResponseEntity<SearchResultDTO> search(@RequestParam String q,
+                                                  @RequestParam(defaultValue = "10") int limit) {
+        SearchResultDTO result = searchService.search(q, Math.clamp(limit, 1, MAX_LIMIT));
+        logger.info("Search matched {} teams and {} players", result.getTeams().size(), result.getPlayers().size());
+        return ResponseEntity.ok(result);
+    }
+}
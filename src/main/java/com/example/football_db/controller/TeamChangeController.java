@@ -0,0 +1,43 @@
+package com.example.football_db.controller;
+
+import com.example.football_db.changes.TeamChangeFeed;
+import com.example.football_db.dto.team.TeamChangesDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+
+/**
+ * REST Controller for the team change feed: teams created, updated and deleted, in commit-safe order.
+ */
+@RestController
+@RequestMapping("/api/v1/teams/changes")
+public class TeamChangeController {
+    private static final Logger logger = LoggerFactory.getLogger(TeamChangeController.class);
+    private static final int MAX_LIMIT = 1000;
+    private static final int MAX_WAIT_SECONDS = 60;
+    private final TeamChangeFeed teamChangeFeed;
+
+    public TeamChangeController(TeamChangeFeed teamChangeFeed) {
+        this.teamChangeFeed = teamChangeFeed;
+    }
+
+    /**
+     * Get the changes following the {@code since} cursor (from the oldest change kept when absent).
+     * With nothing new, the request is held for up to {@code wait} seconds before answering an empty page;
+     * the response's next cursor is the {@code since} of the following call.
+     */
+    @GetMapping
+    public DeferredResult<TeamChangesDTO> getChanges(@RequestParam(required = false) String since,
+                                                     @RequestParam(defaultValue = "100") int limit,
+                                                     @RequestParam(defaultValue = "30") int wait) {
+        logger.info("Team changes requested - since: {}", since);
+        return teamChangeFeed.poll(since, Math.clamp(limit, 1, MAX_LIMIT),
+                Duration.ofSeconds(Math.clamp(wait, 0, MAX_WAIT_SECONDS)));
+    }
+}
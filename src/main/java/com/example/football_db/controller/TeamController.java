@@ -1,18 +1,42 @@
 package com.example.football_db.controller;
 
+import com.example.football_db.constant.PersistenceStatus;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.team.BulkDeleteResultDTO;
+import com.example.football_db.dto.team.BulkDeleteTeamsDTO;
+import com.example.football_db.dto.team.BulkTeamResultDTO;
 import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.PatchTeamDTO;
 import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.dto.team.TeamPersistenceStatusDTO;
+import com.example.football_db.dto.team.TeamSummaryDTO;
 import com.example.football_db.dto.team.UpdateTeamDTO;
+import com.example.football_db.service.CachedTeamResponse;
+import com.example.football_db.service.TeamETags;
+import com.example.football_db.service.TeamImportService;
+import com.example.football_db.service.TeamResponseCache;
 import com.example.football_db.service.TeamService;
+import com.example.football_db.writebehind.TeamWriteBehindQueue;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,10 +46,22 @@ import java.util.UUID;
 @RequestMapping("/api/v1/teams")
 public class TeamController {
     private static final Logger logger = LoggerFactory.getLogger(TeamController.class);
+    private static final int MAX_SCROLL_SIZE = 100;
     private final TeamService teamService;
+    private final TeamImportService teamImportService;
+    private final TeamResponseCache teamResponseCache;
+    private final JsonMapper jsonMapper;
+    // Null unless football-db.write-behind.enabled
+    private final TeamWriteBehindQueue writeBehindQueue;
 
-    public TeamController(TeamService teamService) {
+    public TeamController(TeamService teamService, TeamImportService teamImportService,
+                          TeamResponseCache teamResponseCache, JsonMapper jsonMapper,
+                          ObjectProvider<TeamWriteBehindQueue> writeBehindQueue) {
         this.teamService = teamService;
+        this.teamImportService = teamImportService;
+        this.teamResponseCache = teamResponseCache;
+        this.jsonMapper = jsonMapper;
+        this.writeBehindQueue = writeBehindQueue.getIfAvailable();
     }
 
     /**
@@ -38,34 +74,151 @@ public class TeamController {
         return ResponseEntity.ok(teams);
     }
 
+    /**
+     * Get team summaries with pagination, without rosters.
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<Page<TeamSummaryDTO>> findSummaries(Pageable pageable) {
+        Page<TeamSummaryDTO> teams = teamService.getTeamSummaries(pageable);
+        logger.info("Retrieved {} team summaries", teams.getNumberOfElements());
+        return ResponseEntity.ok(teams);
+    }
+
+    /**
+     * Get a slice of teams without the total count.
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<TeamDTO>> findSlice(Pageable pageable) {
+        Slice<TeamDTO> teams = teamService.getTeamSlice(pageable);
+        logger.info("Retrieved {} teams", teams.getNumberOfElements());
+        return ResponseEntity.ok(teams);
+    }
+
+    /**
+     * Get teams ordered by name using an opaque cursor from the previous response.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDTO<TeamDTO>> scroll(@RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        CursorPageDTO<TeamDTO> teams = teamService.getTeamsAfter(after, Math.clamp(size, 1, MAX_SCROLL_SIZE));
+        logger.info("Retrieved {} teams", teams.getItems().size());
+        return ResponseEntity.ok(teams);
+    }
+
+    /**
+     * Export every team with its players as NDJSON, one team per line.
+     * Writes block on the response stream, so slow clients slow down the export.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            teamService.exportTeams(team -> {
+                try {
+                    outputStream.write(jsonMapper.writeValueAsBytes(team));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            logger.info("Teams exported");
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Get team by ID.
+     * Answers 304 when If-None-Match carries the current version, without loading the team.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TeamDTO> findById(@PathVariable UUID id) {
-        TeamDTO team = teamService.getTeamById(id);
+    public ResponseEntity<byte[]> findById(@PathVariable UUID id,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            CachedTeamResponse cached = teamResponseCache.getIfPresent(id);
+            String etag = cached != null ? cached.getEtag() : TeamETags.of(teamService.getTeamVersion(id));
+            if (TeamETags.matches(ifNoneMatch, etag)) {
+                logger.info("Team not modified - id: {}", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
+        CachedTeamResponse team = teamResponseCache.get(id, teamService::getTeamById);
         logger.info("Team found - id: {}", id);
-        return ResponseEntity.ok(team);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(team.getEtag())
+                .body(team.getBody());
     }
 
     /**
      * Create a new team.
+     * With write-behind enabled, the team is queued instead and the answer is 202 pointing at its status.
      */
     @PostMapping
     public ResponseEntity<TeamDTO> save(@Valid @RequestBody CreateTeamDTO team) {
+        if (writeBehindQueue != null) {
+            TeamDTO queuedTeam = writeBehindQueue.enqueue(team);
+            logger.info("Team queued - id: {}", queuedTeam.getId());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/teams/" + queuedTeam.getId() + "/status"))
+                    .body(queuedTeam);
+        }
         TeamDTO createdTeam = teamService.save(team);
         logger.info("Team created - id: {}", createdTeam.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTeam);
     }
 
+    /**
+     * Whether a team is persisted, or still queued or rejected when write-behind is enabled.
+     */
+    @GetMapping("/{id}/status")
+    public ResponseEntity<TeamPersistenceStatusDTO> getStatus(@PathVariable UUID id) {
+        PersistenceStatus status = writeBehindQueue != null ? writeBehindQueue.getStatus(id) : null;
+        if (status == null) {
+            // Not queued: persisted, or 404
+            teamService.getTeamVersion(id);
+            status = PersistenceStatus.PERSISTED;
+        }
+        logger.info("Team status - id: {}, status: {}", id, status);
+        return ResponseEntity.ok(new TeamPersistenceStatusDTO(id, status));
+    }
+
+    /**
+     * Create teams in bulk from a streamed JSON array or NDJSON body.
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<List<BulkTeamResultDTO>> saveAll(InputStream body) {
+        List<BulkTeamResultDTO> results = teamImportService.importTeams(body);
+        logger.info("Bulk import processed - items: {}", results.size());
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Update an existing team.
+     * With If-Match, the update only applies to the given version and otherwise answers 412;
+     * without it, a concurrent write answers 409.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<TeamDTO> update(@Valid @RequestBody UpdateTeamDTO team, @PathVariable UUID id) {
-        TeamDTO updatedTeam = teamService.update(id, team);
+    public ResponseEntity<TeamDTO> update(@Valid @RequestBody UpdateTeamDTO team, @PathVariable UUID id,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TeamDTO updatedTeam = teamService.update(id, team, TeamETags.expectedVersion(ifMatch));
         logger.info("Team updated - id: {}", id);
-        return ResponseEntity.status(HttpStatus.ACCEPTED).body(updatedTeam);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.ACCEPTED);
+        if (updatedTeam.getVersion() != null) {
+            response.eTag(TeamETags.of(updatedTeam.getVersion()));
+        }
+        return response.body(updatedTeam);
+    }
+
+    /**
+     * Partially update a team without loading it; {@code budgetDelta} adjusts the budget atomically.
+     * Answers 204 with the new version as ETag, 412 on an If-Match mismatch.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patch(@Valid @RequestBody PatchTeamDTO team, @PathVariable UUID id,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long version = teamService.patch(id, team, TeamETags.expectedVersion(ifMatch));
+        logger.info("Team patched - id: {}", id);
+        return ResponseEntity.noContent().eTag(TeamETags.of(version)).build();
     }
 
     /**
@@ -77,6 +230,16 @@ public class TeamController {
         logger.info("Team deleted - id: {}", id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Delete several teams by ID, e.g. at the end of a season. Unknown IDs are ignored.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResultDTO> deleteAll(@Valid @RequestBody BulkDeleteTeamsDTO request) {
+        int deleted = teamService.deleteAllById(request.getIds());
+        logger.info("Teams deleted - count: {}", deleted);
+        return ResponseEntity.ok(new BulkDeleteResultDTO(request.getIds().size(), deleted));
+    }
 }
 
 
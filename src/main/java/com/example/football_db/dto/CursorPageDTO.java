@@ -0,0 +1,23 @@
+package com.example.football_db.dto;
+
+import java.util.List;
+
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public CursorPageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -3,10 +3,12 @@ package com.example.football_db.dto.player;
 import com.example.football_db.constant.PlayerPosition;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 public class CreatePlayerDTO {
     @NotNull(message = "Player name is required")
     @NotBlank(message = "Player name cannot be empty")
+    @Size(max = 255, message = "Player name must be at most 255 characters")
     private String name;
 
     private PlayerPosition position;
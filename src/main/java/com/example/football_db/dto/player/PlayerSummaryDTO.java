@@ -0,0 +1,37 @@
+package com.example.football_db.dto.player;
+
+import com.example.football_db.constant.PlayerPosition;
+
+import java.util.UUID;
+
+public class PlayerSummaryDTO {
+    private UUID id;
+    private String name;
+    private PlayerPosition position;
+    private UUID teamId;
+    private String teamName;
+
+    public PlayerSummaryDTO(UUID id, String name, PlayerPosition position, UUID teamId, String teamName) {
+        this.id = id;
+        this.name = name;
+        this.position = position;
+        this.teamId = teamId;
+        this.teamName = teamName;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+    public String getName() {
+        return name;
+    }
+    public PlayerPosition getPosition() {
+        return position;
+    }
+    public UUID getTeamId() {
+        return teamId;
+    }
+    public String getTeamName() {
+        return teamName;
+    }
+}
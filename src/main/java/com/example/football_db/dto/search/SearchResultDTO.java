@@ -0,0 +1,22 @@
+package com.example.football_db.dto.search;
+
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+
+import java.util.List;
+
+public class SearchResultDTO {
+    private List<TeamHitDTO> teams;
+    private List<PlayerSummaryDTO> players;
+
+    public SearchResultDTO(List<TeamHitDTO> teams, List<PlayerSummaryDTO> players) {
+        this.teams = teams;
+        this.players = players;
+    }
+
+    public List<TeamHitDTO> getTeams() {
+        return teams;
+    }
+    public List<PlayerSummaryDTO> getPlayers() {
+        return players;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.football_db.dto.search;
+
+import java.util.UUID;
+
+public class TeamHitDTO {
+    private UUID id;
+    private String name;
+    private String acronym;
+
+    public TeamHitDTO(UUID id, String name, String acronym) {
+        this.id = id;
+        this.name = name;
+        this.acronym = acronym;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+    public String getName() {
+        return name;
+    }
+    public String getAcronym() {
+        return acronym;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.football_db.dto.team;
+
+public class BulkDeleteResultDTO {
+    private int requested;
+    private int deleted;
+
+    public BulkDeleteResultDTO(int requested, int deleted) {
+        this.requested = requested;
+        this.deleted = deleted;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+    public int getDeleted() {
+        return deleted;
+    }
+}
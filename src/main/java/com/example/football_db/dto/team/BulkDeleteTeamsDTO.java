@@ -0,0 +1,27 @@
+package com.example.football_db.dto.team;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BulkDeleteTeamsDTO {
+    @NotEmpty(message = "At least one team ID is required")
+    @Size(max = 10000, message = "At most 10000 teams per request")
+    private List<@NotNull UUID> ids;
+
+    public BulkDeleteTeamsDTO() {}
+
+    public BulkDeleteTeamsDTO(List<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+}
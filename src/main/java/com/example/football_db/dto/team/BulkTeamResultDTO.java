@@ -0,0 +1,42 @@
+package com.example.football_db.dto.team;
+
+import com.example.football_db.constant.BulkItemStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BulkTeamResultDTO {
+    private int index;
+    private UUID id;
+    private BulkItemStatus status;
+    private List<String> errors;
+
+    public BulkTeamResultDTO(int index, UUID id, BulkItemStatus status, List<String> errors) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+    public UUID getId() {
+        return id;
+    }
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    public BulkItemStatus getStatus() {
+        return status;
+    }
+    public void setStatus(BulkItemStatus status) {
+        this.status = status;
+    }
+    public List<String> getErrors() {
+        return errors;
+    }
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
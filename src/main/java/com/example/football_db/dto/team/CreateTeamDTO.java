@@ -2,9 +2,11 @@ package com.example.football_db.dto.team;
 
 import com.example.football_db.dto.player.CreatePlayerDTO;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -12,14 +14,17 @@ import java.util.List;
 public class CreateTeamDTO {
     @NotNull(message = "Name is required")
     @NotBlank(message = "Name cannot be empty")
+    @Size(max = 255, message = "Name must be at most 255 characters")
     private String name;
 
     @NotNull(message = "Acronym is required")
     @NotBlank(message = "Acronym cannot be empty")
+    @Size(max = 255, message = "Acronym must be at most 255 characters")
     private String acronym;
 
     @NotNull(message = "Budget is required")
     @Positive(message = "Budget must be positive")
+    @Digits(integer = 13, fraction = 2, message = "Budget must have at most 13 digits and 2 decimals")
     private BigDecimal budget;
 
     @Valid
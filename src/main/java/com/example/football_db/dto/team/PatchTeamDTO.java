@@ -0,0 +1,64 @@
+package com.example.football_db.dto.team;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * Partial update: only the fields present are changed.
+ * {@code budgetDelta} is added to the stored budget in the database, so concurrent adjustments never overwrite each other.
+ */
+public class PatchTeamDTO {
+    @Size(max = 255, message = "Name must be at most 255 characters")
+    private String name;
+    @Size(max = 255, message = "Acronym must be at most 255 characters")
+    private String acronym;
+
+    @Positive(message = "Budget must be positive")
+    @Digits(integer = 13, fraction = 2, message = "Budget must have at most 13 digits and 2 decimals")
+    private BigDecimal budget;
+
+    @Digits(integer = 13, fraction = 2, message = "Budget delta must have at most 13 digits and 2 decimals")
+    private BigDecimal budgetDelta;
+
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+    public String getAcronym() {
+        return acronym;
+    }
+    public void setAcronym(String acronym) {
+        this.acronym = acronym;
+    }
+    public BigDecimal getBudget() {
+        return budget;
+    }
+    public void setBudget(BigDecimal budget) {
+        this.budget = budget;
+    }
+    public BigDecimal getBudgetDelta() {
+        return budgetDelta;
+    }
+    public void setBudgetDelta(BigDecimal budgetDelta) {
+        this.budgetDelta = budgetDelta;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one field is required")
+    public boolean isNotEmpty() {
+        return name != null || acronym != null || budget != null || budgetDelta != null;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Budget and budgetDelta cannot be combined")
+    public boolean isSingleBudgetChange() {
+        return budget == null || budgetDelta == null;
+    }
+}
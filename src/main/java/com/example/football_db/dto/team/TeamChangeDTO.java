@@ -0,0 +1,50 @@
+package com.example.football_db.dto.team;
+
+import com.example.football_db.constant.TeamChangeType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class TeamChangeDTO {
+    private long transactionId;
+    private long sequence;
+    private UUID teamId;
+    private TeamChangeType type;
+    private long version;
+    private Instant changedAt;
+
+    public TeamChangeDTO(long transactionId, long sequence, UUID teamId, TeamChangeType type, long version,
+                         Instant changedAt) {
+        this.transactionId = transactionId;
+        this.sequence = sequence;
+        this.teamId = teamId;
+        this.type = type;
+        this.version = version;
+        this.changedAt = changedAt;
+    }
+
+    /**
+     * Feed position, only exposed through the cursor.
+     */
+    @JsonIgnore
+    public long getTransactionId() {
+        return transactionId;
+    }
+    @JsonIgnore
+    public long getSequence() {
+        return sequence;
+    }
+    public UUID getTeamId() {
+        return teamId;
+    }
+    public TeamChangeType getType() {
+        return type;
+    }
+    public long getVersion() {
+        return version;
+    }
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.football_db.dto.team;
+
+import java.util.List;
+
+public class TeamChangesDTO {
+    private List<TeamChangeDTO> changes;
+    private String nextCursor;
+
+    public TeamChangesDTO(List<TeamChangeDTO> changes, String nextCursor) {
+        this.changes = changes;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TeamChangeDTO> getChanges() {
+        return changes;
+    }
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
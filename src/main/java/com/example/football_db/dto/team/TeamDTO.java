@@ -12,13 +12,19 @@ public class TeamDTO {
     private String acronym;
     private BigDecimal budget;
     private List<PlayerDTO> players;
+    private Long version;
 
     public TeamDTO(UUID id, String name, String acronym, BigDecimal budget, List<PlayerDTO> players) {
+        this(id, name, acronym, budget, players, null);
+    }
+
+    public TeamDTO(UUID id, String name, String acronym, BigDecimal budget, List<PlayerDTO> players, Long version) {
         this.id = id;
         this.name = name;
         this.acronym = acronym;
         this.budget = budget;
         this.players = players;
+        this.version = version;
     }
 
     public UUID getId() {
@@ -45,5 +51,8 @@ public class TeamDTO {
     public List<PlayerDTO> getPlayers() {
         return players;
     }
+    public Long getVersion() {
+        return version;
+    }
 }
 
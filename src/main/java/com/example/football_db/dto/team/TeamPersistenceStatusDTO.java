@@ -0,0 +1,22 @@
+package com.example.football_db.dto.team;
+
+import com.example.football_db.constant.PersistenceStatus;
+
+import java.util.UUID;
+
+public class TeamPersistenceStatusDTO {
+    private UUID id;
+    private PersistenceStatus status;
+
+    public TeamPersistenceStatusDTO(UUID id, PersistenceStatus status) {
+        this.id = id;
+        this.status = status;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+    public PersistenceStatus getStatus() {
+        return status;
+    }
+}
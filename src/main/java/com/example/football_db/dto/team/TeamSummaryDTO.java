@@ -0,0 +1,36 @@
+package com.example.football_db.dto.team;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class TeamSummaryDTO {
+    private UUID id;
+    private String name;
+    private String acronym;
+    private BigDecimal budget;
+    private long playerCount;
+
+    public TeamSummaryDTO(UUID id, String name, String acronym, BigDecimal budget, long playerCount) {
+        this.id = id;
+        this.name = name;
+        this.acronym = acronym;
+        this.budget = budget;
+        this.playerCount = playerCount;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+    public String getName() {
+        return name;
+    }
+    public String getAcronym() {
+        return acronym;
+    }
+    public BigDecimal getBudget() {
+        return budget;
+    }
+    public long getPlayerCount() {
+        return playerCount;
+    }
+}
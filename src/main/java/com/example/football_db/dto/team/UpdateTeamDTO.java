@@ -1,10 +1,19 @@
 package com.example.football_db.dto.team;
 
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
 import java.math.BigDecimal;
 
 public class UpdateTeamDTO {
+    @Size(max = 255, message = "Name must be at most 255 characters")
     private String name;
+    @Size(max = 255, message = "Acronym must be at most 255 characters")
     private String acronym;
+
+    @Positive(message = "Budget must be positive")
+    @Digits(integer = 13, fraction = 2, message = "Budget must have at most 13 digits and 2 decimals")
     private BigDecimal budget;
 
     public String getName() {
@@ -2,23 +2,34 @@ package com.example.football_db.entity;
 
 import com.example.football_db.constant.PlayerPosition;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "players")
 public class Player {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
     @Column(nullable = false)
     private String name;
 
     @Enumerated(EnumType.STRING)
+    @Column(length = 16)
     private PlayerPosition position;
 
+    // Deleting a team removes its roster in the database, without loading the players
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "team_id")
+    @JoinColumn(name = "team_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Team team;
 
     public Player() {}
@@ -41,6 +52,12 @@ public class Player {
     public void setPosition(PlayerPosition position) {
         this.position = position;
     }
+    public Team getTeam() {
+        return team;
+    }
+    public void setTeam(Team team) {
+        this.team = team;
+    }
 
 }
 
@@ -1,6 +1,9 @@
 package com.example.football_db.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -8,19 +11,26 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "teams")
 public class Team {
+    // Time-ordered (UUIDv7): new rows land at the right edge of the primary key index instead of random pages
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
     @Column(nullable = false)
     private String name;
     @Column(nullable = false)
     private String acronym;
-    @Column(nullable = false)
+    @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal budget;
+    @Version
+    private Long version;
 
-    @OneToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @OneToMany(mappedBy = "team", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Player> players = new ArrayList<>();
 
     public Team() {}
@@ -28,8 +38,10 @@ public class Team {
     public Team(String name, String acronym, List<Player> players, BigDecimal budget) {
         this.name = name;
         this.acronym = acronym;
-        this.players = players;
         this.budget = budget;
+        if (players != null) {
+            players.forEach(this::addPlayer);
+        }
     }
 
     public UUID getId() {
@@ -56,11 +68,21 @@ public class Team {
     public List<Player> getPlayers() {
         return players;
     }
+    public void addPlayer(Player player) {
+        player.setTeam(this);
+        players.add(player);
+    }
     public BigDecimal getBudget() {
         return budget;
     }
     public void setBudget(BigDecimal budget) {
         this.budget = budget;
     }
+    public Long getVersion() {
+        return version;
+    }
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 
 }
@@ -0,0 +1,11 @@
+package com.example.football_db.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InsufficientBudgetException extends RuntimeException {
+    public InsufficientBudgetException(String message) {
+        super(message);
+    }
+}
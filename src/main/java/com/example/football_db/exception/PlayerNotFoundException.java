@@ -0,0 +1,11 @@
+package com.example.football_db.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class PlayerNotFoundException extends RuntimeException {
+    public PlayerNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.football_db.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class TeamConcurrentModificationException extends RuntimeException {
+    public TeamConcurrentModificationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.football_db.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class TeamVersionConflictException extends RuntimeException {
+    public TeamVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,35 @@
 package com.example.football_db.repository;
 
+import com.example.football_db.dto.player.PlayerSummaryDTO;
 import com.example.football_db.entity.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, UUID> {
+public interface PlayerRepository extends JpaRepository<Player, UUID>, PlayerRepositoryCustom {
+
+    /**
+     * Player summary with its team name, without loading either entity.
+     */
+    @Query("select new com.example.football_db.dto.player.PlayerSummaryDTO(p.id, p.name, p.position, t.id, t.name) "
+            + "from Player p join p.team t where p.id = :id")
+    Optional<PlayerSummaryDTO> findSummaryById(@Param("id") UUID id);
+
+    /**
+     * Stream every player summary through a server-side cursor, without loading entities.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.football_db.dto.player.PlayerSummaryDTO(p.id, p.name, p.position, t.id, t.name) "
+            + "from Player p join p.team t")
+    Stream<PlayerSummaryDTO> streamSearchEntries();
 }
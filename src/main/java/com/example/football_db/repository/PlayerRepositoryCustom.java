@@ -0,0 +1,17 @@
+package com.example.football_db.repository;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PlayerRepositoryCustom {
+
+    /**
+     * Keyset page of player summaries ordered by case-insensitive name then ID,
+     * strictly after {@code (afterName, afterId)} when given. Null filters are ignored.
+     */
+    List<PlayerSummaryDTO> findSummaries(PlayerPosition position, UUID teamId, String namePrefix,
+                                         String afterName, UUID afterId, int limit);
+}
@@ -0,0 +1,79 @@
+package com.example.football_db.repository;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Player search with optional filters, in native SQL.
+ * <p>
+ * Players are ordered by {@code lower(name) collate "C"}, the key of the name indexes created by the V1 migration:
+ * with the byte-wise "C" collation the same btree serves the keyset order and {@code like 'abc%'} prefixes,
+ * whatever the database collation. HQL cannot name the quoted "C" collation.
+ * The query text only contains the supplied filters, so each combination is planned against its own index.
+ */
+class PlayerRepositoryImpl implements PlayerRepositoryCustom {
+    private static final String NAME_KEY = "lower(p.name) collate \"C\"";
+    private final EntityManager entityManager;
+
+    PlayerRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<PlayerSummaryDTO> findSummaries(PlayerPosition position, UUID teamId, String namePrefix,
+                                                String afterName, UUID afterId, int limit) {
+        List<String> predicates = new ArrayList<>();
+        if (position != null) {
+            predicates.add("p.position = :position");
+        }
+        if (teamId != null) {
+            predicates.add("p.team_id = :teamId");
+        }
+        if (namePrefix != null) {
+            predicates.add(NAME_KEY + " like lower(:namePattern) escape '\\'");
+        }
+        if (afterId != null) {
+            predicates.add("(" + NAME_KEY + ", p.id) > (lower(:afterName) collate \"C\", :afterId)");
+        }
+        String sql = "select p.id, p.name, p.position, t.id as team_id, t.name as team_name "
+                + "from players p join teams t on t.id = p.team_id"
+                + (predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates))
+                + " order by " + NAME_KEY + ", p.id";
+
+        Query query = entityManager.createNativeQuery(sql, Object[].class);
+        if (position != null) {
+            query.setParameter("position", position.name());
+        }
+        if (teamId != null) {
+            query.setParameter("teamId", teamId);
+        }
+        if (namePrefix != null) {
+            query.setParameter("namePattern", escapeLike(namePrefix) + "%");
+        }
+        if (afterId != null) {
+            query.setParameter("afterName", afterName);
+            query.setParameter("afterId", afterId);
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.setMaxResults(limit).getResultList();
+        return rows.stream()
+                .map(row -> new PlayerSummaryDTO((UUID) row[0], (String) row[1], toPosition((String) row[2]),
+                        (UUID) row[3], (String) row[4]))
+                .toList();
+    }
+
+    // The position is optional
+    private static PlayerPosition toPosition(String position) {
+        return position != null ? PlayerPosition.valueOf(position) : null;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,12 +1,90 @@
 package com.example.football_db.repository;
 
+import com.example.football_db.dto.search.TeamHitDTO;
+import com.example.football_db.dto.team.TeamSummaryDTO;
 import com.example.football_db.entity.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, UUID> {
+public interface TeamRepository extends JpaRepository<Team, UUID>, TeamRepositoryCustom {
 
+    /**
+     * Current version of a team, without loading the entity or its roster.
+     */
+    @Query("select t.version from Team t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Page over team IDs only, so sorting and limits stay on the teams table.
+     */
+    @Query("select t.id from Team t")
+    Page<UUID> findPageOfIds(Pageable pageable);
+
+    /**
+     * Page of team summaries: team columns plus a roster size counted in SQL, no player rows loaded.
+     */
+    @Query(value = "select new com.example.football_db.dto.team.TeamSummaryDTO(t.id, t.name, t.acronym, t.budget, "
+            + "(select count(p) from Player p where p.team = t)) from Team t",
+            countQuery = "select count(t) from Team t")
+    Page<TeamSummaryDTO> findAllSummaries(Pageable pageable);
+
+    /**
+     * Slice over team IDs: fetches one extra row instead of running a count query.
+     */
+    @Query("select t.id from Team t")
+    Slice<UUID> findSliceOfIds(Pageable pageable);
+
+    /**
+     * First keyset page of team IDs ordered by (name, id).
+     */
+    @Query("select t.id from Team t order by t.name, t.id")
+    List<UUID> findFirstIdsByNameOrder(Limit limit);
+
+    /**
+     * Keyset page of team IDs strictly after the given (name, id) position.
+     */
+    @Query("select t.id from Team t where (t.name, t.id) > (:name, :id) order by t.name, t.id")
+    List<UUID> findIdsByNameOrderAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Stream every team ID through a server-side cursor, fetching rows in batches.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select t.id from Team t order by t.id")
+    Stream<UUID> streamAllIds();
+
+    /**
+     * Stream the searchable fields of every team through a server-side cursor, without loading entities.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.football_db.dto.search.TeamHitDTO(t.id, t.name, t.acronym) from Team t")
+    Stream<TeamHitDTO> streamSearchEntries();
+
+    /**
+     * Load teams and their rosters in a single round-trip.
+     * Entities are only mapped to DTOs, so they are loaded read-only (no snapshots kept for dirty checking).
+     */
+    @EntityGraph(attributePaths = "players")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select t from Team t where t.id in :ids")
+    List<Team> findAllWithPlayersByIdIn(@Param("ids") Collection<UUID> ids);
 }
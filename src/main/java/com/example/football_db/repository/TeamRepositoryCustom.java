@@ -0,0 +1,63 @@
+package com.example.football_db.repository;
+
+import com.example.football_db.constant.TeamChangeType;
+import com.example.football_db.dto.team.TeamChangeDTO;
+import com.example.football_db.dto.team.TeamDTO;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TeamRepositoryCustom {
+
+    /**
+     * Insert teams and their players with the IDs they already carry, in JDBC batches.
+     * Teams and players already present are left untouched, so inserting the same teams again is harmless.
+     */
+    void insertAllIfAbsent(List<TeamDTO> teams);
+
+    /**
+     * Apply a partial update in one UPDATE statement, without loading the team, and return the new version.
+     * Null fields keep their value; {@code budgetDelta} is added to the stored budget and the version is incremented.
+     * Empty when no row matched: the team is missing, is not at {@code expectedVersion} (when given)
+     * or the resulting budget would not be positive.
+     * <p>
+     * The second-level cache is left alone; the caller evicts the team.
+     */
+    Optional<Long> patch(UUID id, String name, String acronym, BigDecimal budget, BigDecimal budgetDelta,
+                         Long expectedVersion);
+
+    /**
+     * Delete the players of the given teams in one DELETE statement, without loading them, and return their IDs.
+     * The second-level cache is left alone; the caller evicts the players.
+     */
+    List<UUID> deleteRosters(Collection<UUID> teamIds);
+
+    /**
+     * Delete the given teams in one DELETE statement, without loading them, and return the IDs of those that
+     * existed. Players still in their rosters go through {@code ON DELETE CASCADE}.
+     * The second-level cache is left alone; the caller evicts the teams.
+     */
+    List<UUID> deleteTeams(Collection<UUID> ids);
+
+    /**
+     * Append a change of the given type to the outbox for each of the teams, with their current version.
+     * Runs in the caller's transaction, flushing pending changes first. Returns the number of rows written,
+     * which leaves out teams that do not exist.
+     */
+    int recordChanges(Collection<UUID> teamIds, TeamChangeType type);
+
+    /**
+     * Changes following the given feed position, at most {@code limit}. Changes of transactions that are still running,
+     * or that started before one still running, are held back until they can no longer be overtaken.
+     */
+    List<TeamChangeDTO> findChangesAfter(long afterTransactionId, long afterId, int limit);
+
+    /**
+     * Delete the changes recorded before the cutoff; returns the number deleted.
+     */
+    int deleteChangesBefore(Instant cutoff);
+}
@@ -0,0 +1,180 @@
+package com.example.football_db.repository;
+
+import com.example.football_db.constant.TeamChangeType;
+import com.example.football_db.dto.player.PlayerDTO;
+import com.example.football_db.dto.team.TeamChangeDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Team writes that bypass the entities, in SQL.
+ * <p>
+ * Teams whose IDs were assigned before reaching the database (write-behind) cannot be persisted as entities with
+ * generated IDs, so they are written with JDBC batches, sent as multi-row inserts ({@code reWriteBatchedInserts}).
+ * Outbox rows ({@code team_changes}, see the V2 migration) are native statements synchronized on their own table only:
+ * a native statement without query spaces would evict every second-level cache region.
+ * Patches and deletes are {@code UPDATE/DELETE ... RETURNING} statements run as queries, so Hibernate does not treat
+ * them as bulk statements that empty whole regions: only the rows they return are evicted, by the caller.
+ */
+class TeamRepositoryImpl implements TeamRepositoryCustom {
+    private static final int BATCH_SIZE = 1000;
+    private static final String TEAM_CHANGES = "team_changes";
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    TeamRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insertAllIfAbsent(List<TeamDTO> teams) {
+        jdbcTemplate.batchUpdate("insert into teams (id, name, acronym, budget, version) values (?, ?, ?, ?, 0) "
+                + "on conflict (id) do nothing", teams, BATCH_SIZE, (statement, team) -> {
+            statement.setObject(1, team.getId());
+            statement.setString(2, team.getName());
+            statement.setString(3, team.getAcronym());
+            statement.setBigDecimal(4, team.getBudget());
+        });
+
+        List<Object[]> players = new ArrayList<>();
+        for (TeamDTO team : teams) {
+            for (PlayerDTO player : team.getPlayers()) {
+                players.add(new Object[]{player.getId(), player.getName(),
+                        player.getPosition() != null ? player.getPosition().name() : null, team.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into players (id, name, position, team_id) values (?, ?, ?, ?) "
+                + "on conflict (id) do nothing", players, BATCH_SIZE, (statement, player) -> {
+            statement.setObject(1, (UUID) player[0]);
+            statement.setString(2, (String) player[1]);
+            statement.setString(3, (String) player[2]);
+            statement.setObject(4, (UUID) player[3]);
+        });
+    }
+
+    @Override
+    public Optional<Long> patch(UUID id, String name, String acronym, BigDecimal budget, BigDecimal budgetDelta,
+                                Long expectedVersion) {
+        // Only the supplied fields appear in the statement, so no parameter is bound to a null of unknown type
+        String newBudget = (budget != null ? ":budget" : "budget") + " + :budgetDelta";
+        List<String> assignments = new ArrayList<>();
+        if (name != null) {
+            assignments.add("name = :name");
+        }
+        if (acronym != null) {
+            assignments.add("acronym = :acronym");
+        }
+        assignments.add("budget = " + newBudget);
+        assignments.add("version = version + 1");
+        String sql = "update teams set " + String.join(", ", assignments)
+                + " where id = :id" + (expectedVersion != null ? " and version = :expectedVersion" : "")
+                + " and " + newBudget + " > 0 returning version";
+
+        entityManager.flush();
+        Query query = entityManager.createNativeQuery(sql, Long.class)
+                .setParameter("id", id)
+                .setParameter("budgetDelta", budgetDelta);
+        if (name != null) {
+            query.setParameter("name", name);
+        }
+        if (acronym != null) {
+            query.setParameter("acronym", acronym);
+        }
+        if (budget != null) {
+            query.setParameter("budget", budget);
+        }
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        @SuppressWarnings("unchecked")
+        List<Long> versions = query.getResultList();
+        // A team already loaded in this session is now stale
+        entityManager.clear();
+        return versions.stream().findFirst();
+    }
+
+    @Override
+    public List<UUID> deleteRosters(Collection<UUID> teamIds) {
+        return deleteReturningIds("delete from players where team_id in (:ids) returning id", teamIds);
+    }
+
+    @Override
+    public List<UUID> deleteTeams(Collection<UUID> ids) {
+        return deleteReturningIds("delete from teams where id in (:ids) returning id", ids);
+    }
+
+    private List<UUID> deleteReturningIds(String sql, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+        @SuppressWarnings("unchecked")
+        List<UUID> deleted = entityManager.createNativeQuery(sql, UUID.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        // Entities already loaded in this session may be gone now
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Override
+    public int recordChanges(Collection<UUID> teamIds, TeamChangeType type) {
+        if (teamIds.isEmpty()) {
+            return 0;
+        }
+        // The outbox copies the current version: pending inserts and updates must reach the table first
+        entityManager.flush();
+        return entityManager.createNativeQuery("insert into team_changes (team_id, change_type, version) "
+                        + "select t.id, :type, t.version from teams t where t.id in (:ids)")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(TEAM_CHANGES)
+                .setParameter("type", type.name())
+                .setParameter("ids", teamIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<TeamChangeDTO> findChangesAfter(long afterTransactionId, long afterId, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "select c.transaction_id, c.id, c.team_id, c.change_type, c.version, c.changed_at "
+                                + "from team_changes c "
+                                + "where c.transaction_id < pg_snapshot_xmin(pg_current_snapshot())::text::bigint "
+                                + "and (c.transaction_id, c.id) > (:afterTransactionId, :afterId) "
+                                + "order by c.transaction_id, c.id", Object[].class)
+                .setParameter("afterTransactionId", afterTransactionId)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new TeamChangeDTO((Long) row[0], (Long) row[1], (UUID) row[2],
+                        TeamChangeType.valueOf((String) row[3]), (Long) row[4], toInstant(row[5])))
+                .toList();
+    }
+
+    @Override
+    public int deleteChangesBefore(Instant cutoff) {
+        return entityManager.createNativeQuery("delete from team_changes where changed_at < :cutoff")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(TEAM_CHANGES)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+    }
+
+    private static Instant toInstant(Object value) {
+        return value instanceof OffsetDateTime dateTime ? dateTime.toInstant() : (Instant) value;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.football_db.search;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive ints, used for postings so that a million documents do not cost a million boxes.
+ */
+final class IntList {
+    private int[] values;
+    private int size;
+
+    IntList() {
+        this(2);
+    }
+
+    IntList(int capacity) {
+        this.values = new int[capacity];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
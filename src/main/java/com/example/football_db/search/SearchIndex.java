@@ -0,0 +1,228 @@
+package com.example.football_db.search;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.dto.search.TeamHitDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+
+/**
+ * In-memory prefix index over team names and acronyms and player names, for type-ahead search.
+ * <p>
+ * Each word of an indexed text is a term. A query matches a document when every query word starts one of
+ * the document's words, ignoring case and accents. The query word with the fewest postings drives the scan
+ * and the others are checked against the document text, so the scan stops as soon as the limit is reached.
+ * Removed documents are only marked and the postings of a renamed team's former words stay behind; both are
+ * counted as dead entries and dropped by the next rebuild.
+ * <p>
+ * Not thread-safe: {@link SearchIndexer} guards it with a read/write lock.
+ */
+public class SearchIndex {
+    private static final PlayerPosition[] POSITIONS = PlayerPosition.values();
+    private static final int INITIAL_PLAYER_CAPACITY = 1024;
+
+    private final Map<UUID, TeamEntry> teamsById = new HashMap<>();
+    private final List<TeamEntry> teams = new ArrayList<>();
+    private final TermIndex teamTerms = new TermIndex();
+
+    // Players are stored column-wise: there are about 25 per team and an object each would double the footprint
+    private long[] playerIdHigh = new long[INITIAL_PLAYER_CAPACITY];
+    private long[] playerIdLow = new long[INITIAL_PLAYER_CAPACITY];
+    private String[] playerNames = new String[INITIAL_PLAYER_CAPACITY];
+    private byte[] playerPositions = new byte[INITIAL_PLAYER_CAPACITY];
+    private TeamEntry[] playerTeams = new TeamEntry[INITIAL_PLAYER_CAPACITY];
+    private int playerDocuments;
+    private int livePlayers;
+    private final TermIndex playerTerms = new TermIndex();
+    private int stalePostings;
+
+    /**
+     * Index a team, or update its name and acronym when it is already indexed.
+     */
+    public void addTeam(TeamHitDTO team) {
+        if (teamsById.containsKey(team.getId())) {
+            updateTeam(team.getId(), team.getName(), team.getAcronym());
+            return;
+        }
+        TeamEntry entry = new TeamEntry(teams.size(), team.getId(), team.getName(), team.getAcronym());
+        teams.add(entry);
+        teamsById.put(entry.id, entry);
+        teamTerms.add(entry.document, SearchTerms.words(entry.text()));
+    }
+
+    /**
+     * Index a player of an indexed team. Players of unknown teams and players already indexed are skipped.
+     */
+    public void addPlayer(PlayerSummaryDTO player) {
+        TeamEntry team = teamsById.get(player.getTeamId());
+        if (team == null || hasPlayer(team, player.getId())) {
+            return;
+        }
+        if (playerDocuments == playerNames.length) {
+            int capacity = playerDocuments + (playerDocuments >> 1);
+            playerIdHigh = Arrays.copyOf(playerIdHigh, capacity);
+            playerIdLow = Arrays.copyOf(playerIdLow, capacity);
+            playerNames = Arrays.copyOf(playerNames, capacity);
+            playerPositions = Arrays.copyOf(playerPositions, capacity);
+            playerTeams = Arrays.copyOf(playerTeams, capacity);
+        }
+        int document = playerDocuments++;
+        playerIdHigh[document] = player.getId().getMostSignificantBits();
+        playerIdLow[document] = player.getId().getLeastSignificantBits();
+        playerNames[document] = player.getName();
+        playerPositions[document] = player.getPosition() != null ? (byte) player.getPosition().ordinal() : -1;
+        playerTeams[document] = team;
+        team.players.add(document);
+        livePlayers++;
+        playerTerms.add(document, SearchTerms.words(player.getName()));
+    }
+
+    /**
+     * Change the name and/or acronym of an indexed team; null keeps the current value.
+     */
+    public void updateTeam(UUID id, String name, String acronym) {
+        TeamEntry team = teamsById.get(id);
+        if (team == null) {
+            return;
+        }
+        List<String> previousWords = SearchTerms.words(team.text());
+        if (name != null) {
+            team.name = name;
+        }
+        if (acronym != null) {
+            team.acronym = acronym;
+        }
+        // Postings of words no longer in the text stay behind; matches are checked against the current text
+        List<String> currentWords = SearchTerms.words(team.text());
+        List<String> newWords = new ArrayList<>(currentWords);
+        newWords.removeAll(previousWords);
+        teamTerms.add(team.document, newWords);
+        previousWords.removeAll(currentWords);
+        stalePostings += previousWords.size();
+    }
+
+    /**
+     * Remove teams and their players.
+     */
+    public void removeTeams(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            TeamEntry team = teamsById.remove(id);
+            if (team == null) {
+                continue;
+            }
+            teams.set(team.document, null);
+            for (int i = 0; i < team.players.size(); i++) {
+                playerNames[team.players.get(i)] = null;
+            }
+            livePlayers -= team.players.size();
+        }
+    }
+
+    /**
+     * Teams whose name or acronym matches the query, at most {@code limit}.
+     */
+    public List<TeamHitDTO> searchTeams(String query, int limit) {
+        List<String> words = SearchTerms.words(query);
+        IntList documents = scan(teamTerms, words, limit, document -> {
+            TeamEntry team = teams.get(document);
+            return team != null && SearchTerms.matchesAll(team.text(), words);
+        });
+        List<TeamHitDTO> hits = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            TeamEntry team = teams.get(documents.get(i));
+            hits.add(new TeamHitDTO(team.id, team.name, team.acronym));
+        }
+        return hits;
+    }
+
+    /**
+     * Players whose name matches the query, at most {@code limit}.
+     */
+    public List<PlayerSummaryDTO> searchPlayers(String query, int limit) {
+        List<String> words = SearchTerms.words(query);
+        // Player names never change, so a single-word query needs no check beyond the postings
+        IntList documents = scan(playerTerms, words, limit, document -> playerNames[document] != null
+                && (words.size() == 1 || SearchTerms.matchesAll(playerNames[document], words)));
+        List<PlayerSummaryDTO> hits = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            int document = documents.get(i);
+            TeamEntry team = playerTeams[document];
+            byte position = playerPositions[document];
+            hits.add(new PlayerSummaryDTO(new UUID(playerIdHigh[document], playerIdLow[document]),
+                    playerNames[document], position >= 0 ? POSITIONS[position] : null, team.id, team.name));
+        }
+        return hits;
+    }
+
+    public int getTeamCount() {
+        return teamsById.size();
+    }
+
+    public int getPlayerCount() {
+        return livePlayers;
+    }
+
+    /**
+     * Removed teams and players plus postings left behind by renames: memory only a rebuild gives back.
+     */
+    public int getDeadEntries() {
+        return teams.size() - teamsById.size() + playerDocuments - livePlayers + stalePostings;
+    }
+
+    private boolean hasPlayer(TeamEntry team, UUID playerId) {
+        for (int i = 0; i < team.players.size(); i++) {
+            int document = team.players.get(i);
+            if (playerIdHigh[document] == playerId.getMostSignificantBits()
+                    && playerIdLow[document] == playerId.getLeastSignificantBits()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IntList scan(TermIndex terms, List<String> words, int limit, IntPredicate matches) {
+        IntList found = new IntList(Math.max(limit, 1));
+        if (words.isEmpty() || limit <= 0) {
+            return found;
+        }
+        for (IntList documents : terms.withPrefix(terms.mostSelective(words))) {
+            for (int i = 0; i < documents.size(); i++) {
+                int document = documents.get(i);
+                // A document is listed under each of its words sharing the prefix
+                if (matches.test(document) && !found.contains(document)) {
+                    found.add(document);
+                    if (found.size() == limit) {
+                        return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static final class TeamEntry {
+        private final int document;
+        private final UUID id;
+        private String name;
+        private String acronym;
+        private final IntList players = new IntList();
+
+        private TeamEntry(int document, UUID id, String name, String acronym) {
+            this.document = document;
+            this.id = id;
+            this.name = name;
+            this.acronym = acronym;
+        }
+
+        private String text() {
+            return name + " " + acronym;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.football_db.search;
+
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.dto.search.SearchResultDTO;
+import com.example.football_db.dto.search.TeamHitDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.entity.Team;
+import com.example.football_db.repository.PlayerRepository;
+import com.example.football_db.repository.TeamRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link SearchIndex} in step with the database.
+ * <p>
+ * The index is rebuilt from the database once the application is ready, then updated by the team write
+ * paths after their transaction commits, so searches never see uncommitted teams. Changes committed while
+ * a rebuild is reading are replayed onto the new index before it replaces the old one.
+ * <p>
+ * Deletes and renames leave dead entries in the index. Once they exceed {@code compaction-ratio} of the live
+ * teams and players, and at least {@code compaction-min-dead}, a rebuild runs in the background to drop them.
+ */
+@Component
+public class SearchIndexer {
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexer.class);
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final double compactionRatio;
+    private final int compactionMinDead;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("search-index-compaction").daemon().factory());
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock; pendingChanges is only set while a rebuild is running
+    private SearchIndex index = new SearchIndex();
+    private List<Consumer<SearchIndex>> pendingChanges;
+
+    public SearchIndexer(TeamRepository teamRepository, PlayerRepository playerRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${football-db.search.compaction-ratio:0.25}") double compactionRatio,
+                         @Value("${football-db.search.compaction-min-dead:10000}") int compactionMinDead) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        // Not read-only, so a rebuild reads the primary: changes replayed onto it were committed there, and a
+        // lagging replica would drop teams created just before it or bring back teams deleted just before it
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.compactionRatio = compactionRatio;
+        this.compactionMinDead = compactionMinDead;
+    }
+
+    /**
+     * Teams and players matching the query, at most {@code limit} of each.
+     */
+    public SearchResultDTO search(String query, int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return new SearchResultDTO(index.searchTeams(query, limit), index.searchPlayers(query, limit));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Index new teams and their rosters once the current transaction commits.
+     * The entities are copied now, as they may change or be detached by then.
+     */
+    public void teamsCreated(Collection<Team> teams) {
+        List<TeamHitDTO> teamHits = new ArrayList<>(teams.size());
+        List<PlayerSummaryDTO> players = new ArrayList<>();
+        for (Team team : teams) {
+            teamHits.add(new TeamHitDTO(team.getId(), team.getName(), team.getAcronym()));
+            team.getPlayers().forEach(player -> players.add(new PlayerSummaryDTO(
+                    player.getId(), player.getName(), player.getPosition(), team.getId(), team.getName())));
+        }
+        afterCommit(index -> {
+            teamHits.forEach(index::addTeam);
+            players.forEach(index::addPlayer);
+        });
+    }
+
+    /**
+     * Index teams inserted without entities (write-behind) once the current transaction commits.
+     */
+    public void teamsInserted(List<TeamDTO> teams) {
+        List<TeamDTO> inserted = List.copyOf(teams);
+        afterCommit(index -> inserted.forEach(team -> {
+            index.addTeam(new TeamHitDTO(team.getId(), team.getName(), team.getAcronym()));
+            team.getPlayers().forEach(player -> index.addPlayer(new PlayerSummaryDTO(
+                    player.getId(), player.getName(), player.getPosition(), team.getId(), team.getName())));
+        }));
+    }
+
+    /**
+     * Reindex a team's name and/or acronym once the current transaction commits; null keeps the current value.
+     */
+    public void teamUpdated(UUID id, String name, String acronym) {
+        afterCommit(index -> index.updateTeam(id, name, acronym));
+    }
+
+    /**
+     * Remove teams and their players once the current transaction commits.
+     */
+    public void teamsDeleted(Collection<UUID> ids) {
+        List<UUID> teamIds = List.copyOf(ids);
+        afterCommit(index -> index.removeTeams(teamIds));
+    }
+
+    /**
+     * Build a new index from the database and swap it in. Searches keep using the current index meanwhile.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // One rebuild at a time: each collects the changes committed while it reads
+        rebuildLock.lock();
+        try {
+            rebuildIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        compactor.shutdownNow();
+    }
+
+    private void rebuildIndex() {
+        long start = System.nanoTime();
+        withWriteLock(() -> pendingChanges = new ArrayList<>());
+        SearchIndex rebuilt = new SearchIndex();
+        try {
+            primaryTransaction.executeWithoutResult(status -> {
+                try (Stream<TeamHitDTO> teams = teamRepository.streamSearchEntries()) {
+                    teams.forEach(rebuilt::addTeam);
+                }
+                // Players of teams created after the team query are skipped here and added by the replay
+                try (Stream<PlayerSummaryDTO> players = playerRepository.streamSearchEntries()) {
+                    players.forEach(rebuilt::addPlayer);
+                }
+            });
+        } catch (RuntimeException e) {
+            withWriteLock(() -> pendingChanges = null);
+            throw e;
+        }
+        withWriteLock(() -> {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            index = rebuilt;
+        });
+        logger.info("Search index rebuilt - teams: {}, players: {}, took: {} ms", rebuilt.getTeamCount(),
+                rebuilt.getPlayerCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void afterCommit(Consumer<SearchIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<SearchIndex> change) {
+        withWriteLock(() -> {
+            change.accept(index);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            int dead = index.getDeadEntries();
+            if (dead >= compactionMinDead && dead > compactionRatio * (index.getTeamCount() + index.getPlayerCount())
+                    && compactionScheduled.compareAndSet(false, true)) {
+                logger.info("Search index compaction scheduled - dead entries: {}", dead);
+                compactor.execute(this::compact);
+            }
+        });
+    }
+
+    private void compact() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Scheduled again by the next change
+            logger.warn("Search index compaction failed", e);
+        } finally {
+            compactionScheduled.set(false);
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            action.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
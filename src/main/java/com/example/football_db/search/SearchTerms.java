@@ -0,0 +1,74 @@
+package com.example.football_db.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization shared by indexed texts and queries: words are runs of letters and digits,
+ * compared lower-case with accents removed ("Mbappé" is found by "mbap").
+ */
+final class SearchTerms {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private SearchTerms() {
+    }
+
+    static String normalize(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+                return folded.toLowerCase(Locale.ROOT);
+            }
+        }
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Distinct normalized words of the text, in order of appearance.
+     */
+    static List<String> words(String text) {
+        String normalized = normalize(text);
+        List<String> words = new ArrayList<>(4);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = normalized.substring(start, i);
+                if (!words.contains(word)) {
+                    words.add(word);
+                }
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Whether every prefix starts one of the words of the text.
+     */
+    static boolean matchesAll(String text, List<String> prefixes) {
+        String normalized = normalize(text);
+        for (String prefix : prefixes) {
+            if (!hasWordStartingWith(normalized, prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasWordStartingWith(String normalized, String prefix) {
+        for (int i = 0; i < normalized.length(); i++) {
+            boolean wordStart = Character.isLetterOrDigit(normalized.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1)));
+            if (wordStart && normalized.startsWith(prefix, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.football_db.search;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Sorted term dictionary with the documents containing each term, in insertion order.
+ * The terms sharing a prefix form one contiguous range of the dictionary.
+ */
+final class TermIndex {
+    private final TreeMap<String, IntList> postings = new TreeMap<>();
+
+    void add(int document, Collection<String> terms) {
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> new IntList()).add(document);
+        }
+    }
+
+    /**
+     * Postings of every term starting with the prefix, in term order.
+     */
+    Collection<IntList> withPrefix(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    }
+
+    /**
+     * Number of postings under the prefix, counting no further than {@code limit}.
+     */
+    int count(String prefix, int limit) {
+        int count = 0;
+        for (IntList documents : withPrefix(prefix)) {
+            count += documents.size();
+            if (count >= limit) {
+                return limit;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The prefix expected to match the fewest documents, which should drive the scan.
+     * Longer prefixes are counted first: they usually span fewer terms, and later counts stop at the fewest so far.
+     */
+    String mostSelective(List<String> prefixes) {
+        List<String> candidates = prefixes.stream().sorted(Comparator.comparingInt(String::length).reversed()).toList();
+        String selective = candidates.get(0);
+        int fewest = count(selective, Integer.MAX_VALUE);
+        for (int i = 1; i < candidates.size() && fewest > 0; i++) {
+            int count = count(candidates.get(i), fewest);
+            if (count < fewest) {
+                selective = candidates.get(i);
+                fewest = count;
+            }
+        }
+        return selective;
+    }
+}
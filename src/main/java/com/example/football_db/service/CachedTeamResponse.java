@@ -0,0 +1,21 @@
+package com.example.football_db.service;
+
+/**
+ * Serialized JSON body of a team together with its entity tag.
+ */
+public class CachedTeamResponse {
+    private final byte[] body;
+    private final String etag;
+
+    public CachedTeamResponse(byte[] body, String etag) {
+        this.body = body;
+        this.etag = etag;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.football_db.service;
+
+import com.example.football_db.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque change feed position: the {@code (transaction_id, id)} of the last change returned to the client.
+ * Encoded as URL-safe Base64 of {@code "<transactionId>:<id>"}.
+ */
+public final class ChangeCursor {
+    public static final ChangeCursor START = new ChangeCursor(0, 0);
+    private final long transactionId;
+    private final long id;
+
+    public ChangeCursor(long transactionId, long id) {
+        this.transactionId = transactionId;
+        this.id = id;
+    }
+
+    public static ChangeCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return new ChangeCursor(Long.parseLong(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String value = transactionId + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getTransactionId() {
+        return transactionId;
+    }
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.football_db.service;
+
+import com.example.football_db.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position: the last {@code (name, id)} pair returned to the client.
+ * Encoded as URL-safe Base64 of {@code "<uuid>:<name>"}.
+ */
+public final class KeysetCursor {
+    private static final int UUID_LENGTH = 36;
+    private final String name;
+    private final UUID id;
+
+    public KeysetCursor(String name, UUID id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (value.length() <= UUID_LENGTH || value.charAt(UUID_LENGTH) != ':') {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return new KeysetCursor(value.substring(UUID_LENGTH + 1), UUID.fromString(value.substring(0, UUID_LENGTH)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String value = id + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getName() {
+        return name;
+    }
+    public UUID getId() {
+        return id;
+    }
+}
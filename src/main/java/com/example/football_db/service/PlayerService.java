@@ -0,0 +1,18 @@
+package com.example.football_db.service;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+
+import java.util.UUID;
+
+/**
+ * Service interface for player lookups across teams.
+ */
+public interface PlayerService {
+
+    CursorPageDTO<PlayerSummaryDTO> searchPlayers(PlayerPosition position, UUID teamId, String namePrefix,
+                                                  String cursor, int size);
+
+    PlayerSummaryDTO getPlayerById(UUID id);
+}
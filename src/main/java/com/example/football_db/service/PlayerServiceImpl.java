@@ -0,0 +1,66 @@
+package com.example.football_db.service;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.exception.PlayerNotFoundException;
+import com.example.football_db.repository.PlayerRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service implementation for player lookups.
+ * <p>
+ * Every method is timed as {@code player.service} and runs in a read-only transaction.
+ */
+@Service
+@Timed(value = "player.service", histogram = true)
+@Transactional(readOnly = true)
+public class PlayerServiceImpl implements PlayerService {
+    private static final Logger logger = LoggerFactory.getLogger(PlayerServiceImpl.class);
+    private final PlayerRepository playerRepository;
+
+    public PlayerServiceImpl(PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    /**
+     * Get the players matching the filters that follow the cursor position, ordered by case-insensitive name then ID.
+     * Null filters are ignored and a null cursor starts from the first player.
+     */
+    @Override
+    public CursorPageDTO<PlayerSummaryDTO> searchPlayers(PlayerPosition position, UUID teamId, String namePrefix,
+                                                         String cursor, int size) {
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        String prefix = namePrefix == null || namePrefix.isBlank() ? null : namePrefix.strip();
+        List<PlayerSummaryDTO> players = playerRepository.findSummaries(position, teamId, prefix,
+                after != null ? after.getName() : null, after != null ? after.getId() : null, size + 1);
+
+        boolean hasNext = players.size() > size;
+        List<PlayerSummaryDTO> items = hasNext ? players.subList(0, size) : players;
+        String nextCursor = null;
+        if (hasNext) {
+            PlayerSummaryDTO last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getName(), last.getId()).encode();
+        }
+        return new CursorPageDTO<>(items, nextCursor);
+    }
+
+    /**
+     * Get a player with its team by ID.
+     */
+    @Override
+    public PlayerSummaryDTO getPlayerById(UUID id) {
+        return playerRepository.findSummaryById(id)
+                .orElseThrow(() -> {
+                    logger.warn("Player not found - id: {}", id);
+                    return new PlayerNotFoundException("Player not found with ID: " + id);
+                });
+    }
+}
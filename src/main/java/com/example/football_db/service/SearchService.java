@@ -0,0 +1,11 @@
+package com.example.football_db.service;
+
+import com.example.football_db.dto.search.SearchResultDTO;
+
+/**
+ * Service interface for type-ahead search over teams and players.
+ */
+public interface SearchService {
+
+    SearchResultDTO search(String query, int limit);
+}
@@ -0,0 +1,30 @@
+package com.example.football_db.service;
+
+import com.example.football_db.dto.search.SearchResultDTO;
+import com.example.football_db.search.SearchIndexer;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for type-ahead search, answered from the in-memory index without touching the database.
+ * <p>
+ * Every method is timed as {@code search.service}.
+ */
+@Service
+@Timed(value = "search.service", histogram = true)
+public class SearchServiceImpl implements SearchService {
+    private final SearchIndexer searchIndexer;
+
+    public SearchServiceImpl(SearchIndexer searchIndexer) {
+        this.searchIndexer = searchIndexer;
+    }
+
+    /**
+     * Find the teams and players whose words start with each word of the query,
+     * ignoring case and accents, at most {@code limit} of each.
+     */
+    @Override
+    public SearchResultDTO search(String query, int limit) {
+        return searchIndexer.search(query, limit);
+    }
+}
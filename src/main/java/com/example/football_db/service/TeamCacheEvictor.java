@@ -0,0 +1,62 @@
+package com.example.football_db.service;
+
+import com.example.football_db.config.HibernateCacheConfiguration;
+import com.example.football_db.entity.Player;
+import com.example.football_db.entity.Team;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Evicts second-level cache entries for rows changed in SQL, which Hibernate never sees: teams and players deleted
+ * without loading them and teams patched in place. Only those entries are evicted, never whole regions.
+ * <p>
+ * Entries are dropped now and, inside a transaction, again after commit, so a concurrent read cannot re-cache
+ * rows that are about to change.
+ */
+@Component
+public class TeamCacheEvictor {
+    private final Cache cache;
+
+    public TeamCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Evict deleted teams, their rosters and their players.
+     */
+    public void evictDeleted(Collection<UUID> teamIds, Collection<UUID> playerIds) {
+        evictNowAndAfterCommit(() -> {
+            teamIds.forEach(id -> {
+                cache.evictEntityData(Team.class, id);
+                cache.evictCollectionData(HibernateCacheConfiguration.TEAM_PLAYERS_REGION, id);
+            });
+            playerIds.forEach(id -> cache.evictEntityData(Player.class, id));
+        });
+    }
+
+    /**
+     * Evict one team, leaving the rest of the team region cached.
+     */
+    public void evictTeam(UUID id) {
+        evictNowAndAfterCommit(() -> cache.evictEntityData(Team.class, id));
+    }
+
+    private static void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.football_db.service;
+
+import com.example.football_db.dto.team.TeamChangesDTO;
+
+import java.time.Instant;
+
+/**
+ * Service interface for the team change feed.
+ */
+public interface TeamChangeService {
+
+    TeamChangesDTO getChangesAfter(String cursor, int limit);
+
+    int deleteChangesBefore(Instant cutoff);
+}
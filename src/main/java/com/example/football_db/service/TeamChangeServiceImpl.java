@@ -0,0 +1,57 @@
+package com.example.football_db.service;
+
+import com.example.football_db.dto.team.TeamChangeDTO;
+import com.example.football_db.dto.team.TeamChangesDTO;
+import com.example.football_db.repository.TeamRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service implementation for the team change feed, read from the {@code team_changes} outbox.
+ * <p>
+ * Every method is timed as {@code team.change.service}. Reads may be served by the read replica: the feed only
+ * returns changes whose transaction, and every one before it, has ended on the server it reads from.
+ */
+@Service
+@Timed(value = "team.change.service", histogram = true)
+@Transactional(readOnly = true)
+public class TeamChangeServiceImpl implements TeamChangeService {
+    private static final Logger logger = LoggerFactory.getLogger(TeamChangeServiceImpl.class);
+    private final TeamRepository teamRepository;
+
+    public TeamChangeServiceImpl(TeamRepository teamRepository) {
+        this.teamRepository = teamRepository;
+    }
+
+    /**
+     * Get the changes following the cursor position, at most {@code limit}.
+     * A null cursor starts from the oldest change kept; the next cursor stays put when there is nothing new.
+     */
+    @Override
+    public TeamChangesDTO getChangesAfter(String cursor, int limit) {
+        ChangeCursor position = cursor == null || cursor.isBlank() ? ChangeCursor.START : ChangeCursor.decode(cursor);
+        List<TeamChangeDTO> changes = teamRepository.findChangesAfter(position.getTransactionId(), position.getId(), limit);
+        if (!changes.isEmpty()) {
+            TeamChangeDTO last = changes.getLast();
+            position = new ChangeCursor(last.getTransactionId(), last.getSequence());
+        }
+        return new TeamChangesDTO(changes, position.encode());
+    }
+
+    /**
+     * Delete the changes recorded before the cutoff; consumers further behind miss them.
+     */
+    @Override
+    @Transactional
+    public int deleteChangesBefore(Instant cutoff) {
+        int deleted = teamRepository.deleteChangesBefore(cutoff);
+        logger.info("Team changes purged - before: {}, deleted: {}", cutoff, deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.football_db.service;
+
+import com.example.football_db.exception.TeamVersionConflictException;
+
+/**
+ * Weak entity tags derived from the team version column, e.g. {@code W/"3"}.
+ */
+public final class TeamETags {
+    private static final String ANY = "*";
+
+    private TeamETags() {
+    }
+
+    public static String of(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * Weak comparison of an If-None-Match style header (possibly a list or {@code *}) with an entity tag.
+     */
+    public static boolean matches(String header, String etag) {
+        String opaqueTag = opaqueTag(etag);
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY) || opaqueTag(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version expected by an If-Match header, or null when the header is absent or {@code *}.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = opaqueTag(ifMatch.trim());
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new TeamVersionConflictException("If-Match does not match the current team version: " + ifMatch);
+        }
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.football_db.service;
+
+import com.example.football_db.dto.team.BulkTeamResultDTO;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Service interface for bulk team imports.
+ */
+public interface TeamImportService {
+
+    List<BulkTeamResultDTO> importTeams(InputStream json);
+}
@@ -0,0 +1,189 @@
+package com.example.football_db.service;
+
+import com.example.football_db.constant.BulkItemStatus;
+import com.example.football_db.dto.team.BulkTeamResultDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.exception.BulkImportException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Streams a JSON array or NDJSON body of teams and saves them in chunked transactions.
+ * <p>
+ * Items are read one at a time from the parser, so the request body is never materialized.
+ * Each item is read as a tree before it is mapped, so an item whose values do not fit a team (a string budget,
+ * an unknown position) is reported INVALID and the import goes on with the next one. Only malformed JSON, or a
+ * body cut short, ends the import: the chunk being filled is discarded and its items reported FAILED. Chunks
+ * saved before it stay committed, so the results are returned with a last INVALID entry for the syntax error;
+ * when nothing was saved yet, the import fails as a whole and can be retried as is.
+ */
+@Service
+public class TeamImportServiceImpl implements TeamImportService {
+    private static final Logger logger = LoggerFactory.getLogger(TeamImportServiceImpl.class);
+    private final TeamService teamService;
+    private final JsonMapper jsonMapper;
+    private final ObjectReader teamReader;
+    private final Validator validator;
+    private final int chunkSize;
+    private final Map<BulkItemStatus, Counter> itemCounters = new EnumMap<>(BulkItemStatus.class);
+
+    public TeamImportServiceImpl(TeamService teamService, JsonMapper jsonMapper, Validator validator,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${football-db.bulk-import.chunk-size:500}") int chunkSize) {
+        this.teamService = teamService;
+        this.jsonMapper = jsonMapper;
+        // Items are read from a shared parser, so the next item must not count as trailing input
+        this.teamReader = jsonMapper.readerFor(CreateTeamDTO.class)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        for (BulkItemStatus status : BulkItemStatus.values()) {
+            itemCounters.put(status, Counter.builder("team.import.items")
+                    .description("Teams read by the bulk import, by outcome")
+                    .tag("status", status.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Import teams from a JSON array or a stream of newline-delimited JSON objects.
+     */
+    @Override
+    public List<BulkTeamResultDTO> importTeams(InputStream json) {
+        List<BulkTeamResultDTO> results = new ArrayList<>();
+        List<CreateTeamDTO> chunk = new ArrayList<>(chunkSize);
+        List<BulkTeamResultDTO> chunkResults = new ArrayList<>(chunkSize);
+        int index = 0;
+        int saved = 0;
+        String syntaxError = null;
+
+        try (JsonParser parser = jsonMapper.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token == JsonToken.START_OBJECT) {
+                JsonNode item = teamReader.readTree(parser);
+                CreateTeamDTO team = null;
+                List<String> errors;
+                try {
+                    team = teamReader.readValue(item);
+                    errors = validate(team);
+                } catch (DatabindException e) {
+                    errors = List.of(describe(e));
+                }
+                if (errors.isEmpty()) {
+                    BulkTeamResultDTO result = new BulkTeamResultDTO(index, null, BulkItemStatus.CREATED, List.of());
+                    chunk.add(team);
+                    chunkResults.add(result);
+                    results.add(result);
+                    if (chunk.size() == chunkSize) {
+                        saved += saveChunk(chunk, chunkResults);
+                    }
+                } else {
+                    results.add(new BulkTeamResultDTO(index, null, BulkItemStatus.INVALID, errors));
+                }
+                index++;
+                token = parser.nextToken();
+            }
+            if (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                syntaxError = "Expected a team object but found " + token;
+            }
+        } catch (JacksonException e) {
+            // Also a body cut short or a client gone away: the pending chunk may be incomplete
+            syntaxError = "Malformed JSON: " + e.getOriginalMessage();
+        }
+
+        if (syntaxError == null) {
+            saveChunk(chunk, chunkResults);
+        } else {
+            String notSaved = "Not saved: the import ended at item " + index;
+            chunkResults.forEach(result -> {
+                result.setStatus(BulkItemStatus.FAILED);
+                result.setErrors(List.of(notSaved));
+            });
+        }
+        results.forEach(result -> itemCounters.get(result.getStatus()).increment());
+        if (syntaxError != null) {
+            logger.warn("Bulk import ended by malformed JSON - item: {}, saved: {}", index, saved);
+            if (saved == 0) {
+                throw new BulkImportException("Item " + index + ": " + syntaxError);
+            }
+            results.add(new BulkTeamResultDTO(index, null, BulkItemStatus.INVALID, List.of(syntaxError)));
+        }
+
+        logger.info("Bulk import finished - items: {}", index);
+        return results;
+    }
+
+    /**
+     * Save a chunk in one transaction; returns the number of teams saved.
+     */
+    private int saveChunk(List<CreateTeamDTO> chunk, List<BulkTeamResultDTO> chunkResults) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int saved = 0;
+        try {
+            List<UUID> ids = teamService.saveAll(List.copyOf(chunk));
+            for (int i = 0; i < ids.size(); i++) {
+                chunkResults.get(i).setId(ids.get(i));
+            }
+            saved = ids.size();
+        } catch (RuntimeException e) {
+            logger.warn("Bulk import chunk failed - size: {}", chunk.size(), e);
+            chunkResults.forEach(result -> {
+                result.setStatus(BulkItemStatus.FAILED);
+                result.setErrors(List.of(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+            });
+        }
+        chunk.clear();
+        chunkResults.clear();
+        return saved;
+    }
+
+    // Same "path: message" form as the validation errors, e.g. "players[0].position: ..."
+    private static String describe(DatabindException e) {
+        StringBuilder path = new StringBuilder();
+        for (JacksonException.Reference reference : e.getPath()) {
+            if (reference.getPropertyName() != null) {
+                path.append(path.isEmpty() ? "" : ".").append(reference.getPropertyName());
+            } else if (reference.getIndex() >= 0) {
+                path.append('[').append(reference.getIndex()).append(']');
+            }
+        }
+        return path + ": " + e.getOriginalMessage();
+    }
+
+    private List<String> validate(CreateTeamDTO team) {
+        Set<ConstraintViolation<CreateTeamDTO>> violations = validator.validate(team);
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .toList();
+    }
+}
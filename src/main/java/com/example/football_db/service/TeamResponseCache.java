@@ -0,0 +1,110 @@
+package com.example.football_db.service;
+
+import com.example.football_db.config.ReadWriteRoutingDataSource;
+import com.example.football_db.dto.team.TeamDTO;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Cache of already-serialized team JSON, keyed by team ID.
+ * <p>
+ * Cached reads skip both the DTO mapping and Jackson. Write paths must call {@link #evict(UUID)}.
+ * Entries are futures so that a miss is loaded outside the map's bin lock: a load waiting on a
+ * JDBC connection must not pin a virtual thread to its carrier. Misses are loaded from the primary,
+ * so a lagging read replica cannot put a team back in its state before the write that evicted it.
+ */
+@Component
+public class TeamResponseCache {
+    private final AsyncCache<UUID, CachedTeamResponse> cache;
+    private final JsonMapper jsonMapper;
+
+    public TeamResponseCache(JsonMapper jsonMapper,
+                             @Value("${football-db.response-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${football-db.response-cache.time-to-live:10m}") Duration timeToLive) {
+        this.jsonMapper = jsonMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .buildAsync();
+    }
+
+    /**
+     * Get the serialized team, loading and serializing it on a miss.
+     */
+    public CachedTeamResponse get(UUID id, Function<UUID, TeamDTO> loader) {
+        CompletableFuture<CachedTeamResponse> loading = new CompletableFuture<>();
+        CompletableFuture<CachedTeamResponse> cached = cache.asMap().putIfAbsent(id, loading);
+        if (cached != null) {
+            return join(cached);
+        }
+        try {
+            CachedTeamResponse response = serialize(ReadWriteRoutingDataSource.onPrimary(() -> loader.apply(id)));
+            loading.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            // Failed futures are dropped by the cache, so the next read loads again
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the serialized team if it is cached, without loading it.
+     */
+    public CachedTeamResponse getIfPresent(UUID id) {
+        CompletableFuture<CachedTeamResponse> cached = cache.getIfPresent(id);
+        return cached != null && cached.isDone() && !cached.isCompletedExceptionally() ? cached.join() : null;
+    }
+
+    /**
+     * Drop the cached team now and, inside a transaction, again after commit so that a
+     * concurrent read cannot re-cache the pre-commit state.
+     */
+    public void evict(UUID id) {
+        evictAll(List.of(id));
+    }
+
+    /**
+     * Drop several cached teams, now and after commit like {@link #evict(UUID)}.
+     */
+    public void evictAll(Collection<UUID> ids) {
+        cache.synchronous().invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidateAll(ids);
+                }
+            });
+        }
+    }
+
+    private static CachedTeamResponse join(CompletableFuture<CachedTeamResponse> cached) {
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedTeamResponse serialize(TeamDTO team) {
+        byte[] body = jsonMapper.writeValueAsBytes(team);
+        return new CachedTeamResponse(body, TeamETags.of(team.getVersion()));
+    }
+}
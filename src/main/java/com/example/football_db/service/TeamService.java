@@ -1,12 +1,18 @@
 package com.example.football_db.service;
 
+import com.example.football_db.dto.CursorPageDTO;
 import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.PatchTeamDTO;
 import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.dto.team.TeamSummaryDTO;
 import com.example.football_db.dto.team.UpdateTeamDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for team management operations.
@@ -15,11 +21,27 @@ public interface TeamService {
 
     Page<TeamDTO> getAllTeams(Pageable pageable);
 
+    Page<TeamSummaryDTO> getTeamSummaries(Pageable pageable);
+
+    Slice<TeamDTO> getTeamSlice(Pageable pageable);
+
+    CursorPageDTO<TeamDTO> getTeamsAfter(String cursor, int size);
+
     TeamDTO getTeamById(UUID id);
 
+    long getTeamVersion(UUID id);
+
+    void exportTeams(Consumer<TeamDTO> consumer);
+
     TeamDTO save(CreateTeamDTO team);
 
-    TeamDTO update(UUID id, UpdateTeamDTO team);
+    List<UUID> saveAll(List<CreateTeamDTO> teams);
+
+    TeamDTO update(UUID id, UpdateTeamDTO team, Long expectedVersion);
+
+    long patch(UUID id, PatchTeamDTO team, Long expectedVersion);
 
     void deleteById(UUID id);
+
+    int deleteAllById(List<UUID> ids);
 }
@@ -1,35 +1,81 @@
 package com.example.football_db.service;
 
+import com.example.football_db.changes.TeamChangeFeed;
+import com.example.football_db.constant.TeamChangeType;
+import com.example.football_db.dto.CursorPageDTO;
 import com.example.football_db.dto.player.PlayerDTO;
 import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.PatchTeamDTO;
 import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.dto.team.TeamSummaryDTO;
 import com.example.football_db.dto.team.UpdateTeamDTO;
 import com.example.football_db.entity.Player;
 import com.example.football_db.entity.Team;
+import com.example.football_db.exception.InsufficientBudgetException;
+import com.example.football_db.exception.TeamConcurrentModificationException;
 import com.example.football_db.exception.TeamNotFoundException;
-import com.example.football_db.repository.PlayerRepository;
+import com.example.football_db.exception.TeamVersionConflictException;
 import com.example.football_db.repository.TeamRepository;
+import com.example.football_db.search.SearchIndexer;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for team management operations.
+ * <p>
+ * Every method is timed as {@code team.service}, tagged with the method name and the exception thrown.
+ * Methods run in read-only transactions unless marked otherwise: Hibernate loads entities read-only
+ * (no snapshot copies, no dirty checking) and never flushes. Every write also records the teams it changed
+ * in the {@code team_changes} outbox, in the same transaction, for the change feed.
  */
 @Service
+@Timed(value = "team.service", histogram = true)
+@Transactional(readOnly = true)
 public class TeamServiceImpl implements TeamService {
     private static final Logger logger = LoggerFactory.getLogger(TeamServiceImpl.class);
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int DELETE_CHUNK_SIZE = 1000;
     private final TeamRepository teamRepository;
-    private final PlayerRepository playerRepository;
+    private final EntityManager entityManager;
+    private final TeamResponseCache teamResponseCache;
+    private final TeamCacheEvictor teamCacheEvictor;
+    private final SearchIndexer searchIndexer;
+    private final TeamChangeFeed teamChangeFeed;
 
-    public TeamServiceImpl(TeamRepository teamRepository, PlayerRepository playerRepository) {
+    public TeamServiceImpl(TeamRepository teamRepository, EntityManager entityManager,
+                           TeamResponseCache teamResponseCache, TeamCacheEvictor teamCacheEvictor,
+                           SearchIndexer searchIndexer, TeamChangeFeed teamChangeFeed) {
         this.teamRepository = teamRepository;
-        this.playerRepository = playerRepository;
+        this.entityManager = entityManager;
+        this.teamResponseCache = teamResponseCache;
+        this.teamCacheEvictor = teamCacheEvictor;
+        this.searchIndexer = searchIndexer;
+        this.teamChangeFeed = teamChangeFeed;
     }
 
     /**
@@ -37,7 +83,8 @@ public class TeamServiceImpl implements TeamService {
      */
     @Override
     public Page<TeamDTO> getAllTeams(Pageable pageable) {
-        return teamRepository.findAll(pageable).map(this::toDTO);
+        Page<UUID> ids = teamRepository.findPageOfIds(pageable);
+        return new PageImpl<>(findTeamsWithPlayers(ids.getContent()), pageable, ids.getTotalElements());
     }
 
     /**
@@ -54,39 +101,122 @@ public class TeamServiceImpl implements TeamService {
     }
 
     /**
-     * Create a new team.
+     * Get the current version of a team.
+     * Not read-only, so conditional requests see the primary's version rather than a lagging replica's.
      */
     @Override
-    public TeamDTO save(CreateTeamDTO createTeamDto) {
-        Team team = new Team();
-        team.setName(createTeamDto.getName());
-        team.setAcronym(createTeamDto.getAcronym());
-        team.setBudget(createTeamDto.getBudget());
+    @Transactional
+    public long getTeamVersion(UUID id) {
+        return teamRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    logger.warn("Team not found - id: {}", id);
+                    return new TeamNotFoundException("Team not found with ID: " + id);
+                });
+    }
+
+    /**
+     * Get team summaries (roster size instead of players) with pagination.
+     */
+    @Override
+    public Page<TeamSummaryDTO> getTeamSummaries(Pageable pageable) {
+        return teamRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * Get a slice of teams without counting the whole table.
+     */
+    @Override
+    public Slice<TeamDTO> getTeamSlice(Pageable pageable) {
+        Slice<UUID> ids = teamRepository.findSliceOfIds(pageable);
+        return new SliceImpl<>(findTeamsWithPlayers(ids.getContent()), pageable, ids.hasNext());
+    }
+
+    /**
+     * Get the teams following the cursor position, ordered by name then ID.
+     * A null cursor starts from the first team.
+     */
+    @Override
+    public CursorPageDTO<TeamDTO> getTeamsAfter(String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<UUID> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = teamRepository.findFirstIdsByNameOrder(limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            ids = teamRepository.findIdsByNameOrderAfter(position.getName(), position.getId(), limit);
+        }
 
-        // Save players if provided
-        if (createTeamDto.getPlayers() != null && !createTeamDto.getPlayers().isEmpty()) {
-            team.setPlayers(createTeamDto.getPlayers().stream()
-                    .map(createPlayerDTO -> {
-                        Player player = new Player();
-                        player.setName(createPlayerDTO.getName());
-                        player.setPosition(createPlayerDTO.getPosition());
-                        playerRepository.save(player);
-                        return player;
-                    })
-                    .collect(Collectors.toList()));
+        boolean hasNext = ids.size() > size;
+        List<TeamDTO> teams = findTeamsWithPlayers(hasNext ? ids.subList(0, size) : ids);
+        String nextCursor = null;
+        if (hasNext && !teams.isEmpty()) {
+            TeamDTO last = teams.get(teams.size() - 1);
+            nextCursor = new KeysetCursor(last.getName(), last.getId()).encode();
         }
+        return new CursorPageDTO<>(teams, nextCursor);
+    }
 
-        Team saved = teamRepository.save(team);
+    /**
+     * Stream every team with its players to the consumer, ordered by ID.
+     * Rosters are fetched one chunk at a time and the persistence context is cleared
+     * between chunks, so memory stays flat regardless of table size.
+     */
+    @Override
+    public void exportTeams(Consumer<TeamDTO> consumer) {
+        List<UUID> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<UUID> ids = teamRepository.streamAllIds()) {
+            Iterator<UUID> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    findTeamsWithPlayers(chunk).forEach(consumer);
+                    entityManager.clear();
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a new team.
+     */
+    @Override
+    @Transactional
+    public TeamDTO save(CreateTeamDTO createTeamDto) {
+        Team saved = teamRepository.save(toEntity(createTeamDto));
+        recordChanges(List.of(saved.getId()), TeamChangeType.CREATED);
+        searchIndexer.teamsCreated(List.of(saved));
         logger.info("Team saved - id: {}", saved.getId());
         return toDTO(saved);
     }
 
+    /**
+     * Create several teams in one transaction, returning their IDs in input order.
+     */
+    @Override
+    @Transactional
+    public List<UUID> saveAll(List<CreateTeamDTO> createTeamDtos) {
+        List<Team> saved = teamRepository.saveAll(createTeamDtos.stream().map(this::toEntity).toList());
+        recordChanges(saved.stream().map(Team::getId).toList(), TeamChangeType.CREATED);
+        searchIndexer.teamsCreated(saved);
+        logger.info("Teams saved - count: {}", saved.size());
+        return saved.stream().map(Team::getId).toList();
+    }
+
     /**
      * Update an existing team.
+     * When an expected version is given, the update is rejected unless it is still current. A concurrent write
+     * between the read and the update fails it as a version conflict when a version was expected, and as a
+     * concurrent modification otherwise.
      */
     @Override
-    public TeamDTO update(UUID id, UpdateTeamDTO updateTeamDto) {
+    @Transactional
+    public TeamDTO update(UUID id, UpdateTeamDTO updateTeamDto, Long expectedVersion) {
         Team team = findTeamById(id);
+        if (expectedVersion != null && !expectedVersion.equals(team.getVersion())) {
+            logger.warn("Team version conflict - id: {}, expected: {}, current: {}", id, expectedVersion, team.getVersion());
+            throw new TeamVersionConflictException("Team " + id + " is at version " + team.getVersion());
+        }
 
         if (updateTeamDto.getName() != null) {
             team.setName(updateTeamDto.getName());
@@ -98,21 +228,101 @@ public class TeamServiceImpl implements TeamService {
             team.setBudget(updateTeamDto.getBudget());
         }
 
-        Team saved = teamRepository.save(team);
+        Team saved;
+        try {
+            saved = teamRepository.saveAndFlush(team);
+        } catch (OptimisticLockingFailureException e) {
+            logger.warn("Team concurrently modified - id: {}", id);
+            if (expectedVersion != null) {
+                throw new TeamVersionConflictException("Team " + id + " was modified concurrently");
+            }
+            throw new TeamConcurrentModificationException("Team " + id + " was modified concurrently");
+        }
+        recordChanges(List.of(id), TeamChangeType.UPDATED);
+        teamResponseCache.evict(id);
+        searchIndexer.teamUpdated(id, saved.getName(), saved.getAcronym());
         logger.info("Team updated - id: {}", id);
         return toDTO(saved);
     }
 
     /**
-     * Delete a team by ID.
+     * Apply a partial update with a single UPDATE statement, returning the new version.
+     * The team is not loaded; when no row was updated, its current version tells why.
      */
     @Override
+    @Transactional
+    public long patch(UUID id, PatchTeamDTO patchTeamDto, Long expectedVersion) {
+        BigDecimal budgetDelta = patchTeamDto.getBudgetDelta() != null ? patchTeamDto.getBudgetDelta() : BigDecimal.ZERO;
+        Optional<Long> patched = teamRepository.patch(id, patchTeamDto.getName(), patchTeamDto.getAcronym(),
+                patchTeamDto.getBudget(), budgetDelta, expectedVersion);
+        if (patched.isEmpty()) {
+            long version = getTeamVersion(id);
+            if (expectedVersion != null && expectedVersion != version) {
+                logger.warn("Team version conflict - id: {}, expected: {}, current: {}", id, expectedVersion, version);
+                throw new TeamVersionConflictException("Team " + id + " is at version " + version);
+            }
+            logger.warn("Team budget would not be positive - id: {}, delta: {}", id, budgetDelta);
+            throw new InsufficientBudgetException("Team " + id + " budget must stay positive");
+        }
+        long version = patched.get();
+        recordChanges(List.of(id), TeamChangeType.UPDATED);
+        teamCacheEvictor.evictTeam(id);
+        teamResponseCache.evict(id);
+        if (patchTeamDto.getName() != null || patchTeamDto.getAcronym() != null) {
+            searchIndexer.teamUpdated(id, patchTeamDto.getName(), patchTeamDto.getAcronym());
+        }
+        logger.info("Team patched - id: {}", id);
+        return version;
+    }
+
+    /**
+     * Delete a team by ID without loading it: one DELETE for its players, one for the team.
+     */
+    @Override
+    @Transactional
     public void deleteById(UUID id) {
-        findTeamById(id);
-        teamRepository.deleteById(id);
+        // Recorded first, with the version being deleted; rolled back with the transaction when there is no such team
+        recordChanges(List.of(id), TeamChangeType.DELETED);
+        List<UUID> playerIds = teamRepository.deleteRosters(List.of(id));
+        if (teamRepository.deleteTeams(List.of(id)).isEmpty()) {
+            logger.warn("Team not found - id: {}", id);
+            throw new TeamNotFoundException("Team not found with ID: " + id);
+        }
+        teamCacheEvictor.evictDeleted(List.of(id), playerIds);
+        teamResponseCache.evict(id);
+        searchIndexer.teamsDeleted(List.of(id));
         logger.info("Team deleted - id: {}", id);
     }
 
+    /**
+     * Delete the given teams, one DELETE for the players and one for the teams per chunk of IDs. Unknown IDs are ignored.
+     * Returns the number of teams deleted.
+     */
+    @Override
+    @Transactional
+    public int deleteAllById(List<UUID> ids) {
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        List<UUID> deletedIds = new ArrayList<>();
+        List<UUID> playerIds = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size()));
+            recordChanges(chunk, TeamChangeType.DELETED);
+            playerIds.addAll(teamRepository.deleteRosters(chunk));
+            deletedIds.addAll(teamRepository.deleteTeams(chunk));
+        }
+        int deleted = deletedIds.size();
+        teamCacheEvictor.evictDeleted(deletedIds, playerIds);
+        teamResponseCache.evictAll(distinctIds);
+        searchIndexer.teamsDeleted(distinctIds);
+        logger.info("Teams deleted - requested: {}, deleted: {}", distinctIds.size(), deleted);
+        return deleted;
+    }
+
+    private void recordChanges(List<UUID> ids, TeamChangeType type) {
+        teamRepository.recordChanges(ids, type);
+        teamChangeFeed.changesRecorded();
+    }
+
     private Team findTeamById(UUID id) {
         return teamRepository.findById(id)
                 .orElseThrow(() -> {
@@ -121,6 +331,36 @@ public class TeamServiceImpl implements TeamService {
                 });
     }
 
+    /**
+     * Fetch teams with their players in one query, keeping the order of the given IDs.
+     */
+    private List<TeamDTO> findTeamsWithPlayers(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Team> teamsById = teamRepository.findAllWithPlayersByIdIn(ids).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        return ids.stream()
+                .map(teamsById::get)
+                .filter(Objects::nonNull)
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    private Team toEntity(CreateTeamDTO createTeamDto) {
+        Team team = new Team();
+        team.setName(createTeamDto.getName());
+        team.setAcronym(createTeamDto.getAcronym());
+        team.setBudget(createTeamDto.getBudget());
+
+        // Players are persisted through the cascade on Team.players
+        if (createTeamDto.getPlayers() != null) {
+            createTeamDto.getPlayers().forEach(createPlayerDTO ->
+                    team.addPlayer(new Player(createPlayerDTO.getName(), createPlayerDTO.getPosition())));
+        }
+        return team;
+    }
+
     private TeamDTO toDTO(Team team) {
         return new TeamDTO(
                 team.getId(),
@@ -129,7 +369,8 @@ public class TeamServiceImpl implements TeamService {
                 team.getBudget(),
                 team.getPlayers().stream()
                         .map(player -> new PlayerDTO(player.getId(), player.getName(), player.getPosition()))
-                        .collect(Collectors.toList())
+                        .collect(Collectors.toList()),
+                team.getVersion()
         );
     }
 }
@@ -0,0 +1,317 @@
+package com.example.football_db.writebehind;
+
+import com.example.football_db.exception.WriteBehindQueueFullException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Log of queued commands in a memory-mapped file, used as a ring buffer.
+ * <p>
+ * The file starts with a header holding the position up to which records have been drained, followed by records
+ * of {@code [length][crc32c][payload]} and a zero length marking the end. A record that does not fit before the
+ * end of the file goes back to its start, behind a wrap marker, as soon as the records drained there leave room
+ * for it; the log therefore only fills up when the records not yet drained fill the file, that is when the
+ * database falls behind. Each pass over the file is a generation, covered by the record checksums, so records
+ * left over from an earlier pass are never read back as pending.
+ * <p>
+ * {@link #append} returns once the record is forced to disk; a record torn by a crash fails its checksum and ends
+ * the log when it is reopened. Concurrent appends share disk flushes: a flush covers every record written when it
+ * starts, so callers arriving during a flush wait for the next one instead of flushing one by one. Records past
+ * the drained position are pending again after a restart.
+ * <p>
+ * Thread-safe. A {@link ReentrantLock} rather than {@code synchronized} guards it, so virtual threads waiting
+ * on a disk flush do not pin their carrier.
+ */
+final class TeamCommandLog implements Closeable {
+    private static final int MAGIC = 0x46444257;
+    private static final int FORMAT_VERSION = 2;
+    // magic, format version, drained offset, drained generation
+    private static final int HEADER_SIZE = 16;
+    private static final int DRAINED_OFFSET_POSITION = 8;
+    private static final int DRAINED_GENERATION_POSITION = 12;
+    // length, checksum
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int END_MARKER_SIZE = 4;
+    private static final int WRAP_MARKER = -1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Guarded by lock. The pending records run from the drained position to the write position, through the wrap
+    // marker at wrapOffset when the write generation is ahead of the drained one.
+    private int drainedOffset;
+    private int drainedGeneration;
+    private int writeOffset;
+    private int writeGeneration;
+    private int wrapOffset;
+    private long appendedRecords;
+    // Guarded by flushLock
+    private long flushedRecords;
+
+    TeamCommandLog(Path path, int capacity) throws IOException {
+        if (capacity < HEADER_SIZE + RECORD_HEADER_SIZE + END_MARKER_SIZE) {
+            throw new IllegalArgumentException("Log capacity too small: " + capacity);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            // An existing log keeps its size, so a smaller setting never truncates pending records
+            this.capacity = (int) Math.max(capacity, channel.size());
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.capacity);
+            open(path);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void open(Path path) {
+        int magic = buffer.getInt(0);
+        if (magic == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putInt(DRAINED_OFFSET_POSITION, HEADER_SIZE);
+            buffer.putInt(DRAINED_GENERATION_POSITION, 0);
+            buffer.putInt(HEADER_SIZE, 0);
+            buffer.force(0, HEADER_SIZE + END_MARKER_SIZE);
+        } else if (magic != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Not a team command log: " + path);
+        }
+        drainedOffset = buffer.getInt(DRAINED_OFFSET_POSITION);
+        drainedGeneration = buffer.getInt(DRAINED_GENERATION_POSITION);
+        if (drainedOffset < HEADER_SIZE || drainedOffset > capacity - END_MARKER_SIZE) {
+            throw new IllegalStateException("Corrupt drained offset " + drainedOffset + " in " + path);
+        }
+        writeOffset = drainedOffset;
+        writeGeneration = drainedGeneration;
+        while (true) {
+            if (buffer.getInt(writeOffset) == WRAP_MARKER && writeGeneration == drainedGeneration) {
+                wrapOffset = writeOffset;
+                writeOffset = HEADER_SIZE;
+                writeGeneration++;
+            }
+            Entry entry = read(writeOffset, writeGeneration);
+            if (entry == null) {
+                break;
+            }
+            writeOffset = entry.getEnd();
+        }
+    }
+
+    /**
+     * Append a record and force it to disk.
+     *
+     * @throws WriteBehindQueueFullException when the records not yet drained leave no room for it
+     */
+    void append(byte[] payload) {
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        long record;
+        lock.lock();
+        try {
+            int start = writeOffset;
+            int generation = writeGeneration;
+            // The record and the end marker after it must stay clear of the records not yet drained
+            int limit = writeGeneration == drainedGeneration ? capacity : drainedOffset;
+            if ((long) start + recordSize + END_MARKER_SIZE > limit) {
+                if (writeGeneration != drainedGeneration
+                        || HEADER_SIZE + recordSize + END_MARKER_SIZE > drainedOffset) {
+                    throw new WriteBehindQueueFullException("Write-behind queue is full");
+                }
+                start = HEADER_SIZE;
+                generation++;
+            }
+            buffer.put(start + RECORD_HEADER_SIZE, payload);
+            buffer.putInt(start + 4, checksum(generation, payload));
+            buffer.putInt(start + recordSize, 0);
+            buffer.putInt(start, payload.length);
+            if (generation != writeGeneration) {
+                // Published last, in place of the end marker, once the record it leads to is written
+                buffer.putInt(writeOffset, WRAP_MARKER);
+                wrapOffset = writeOffset;
+                writeGeneration = generation;
+            }
+            writeOffset = start + recordSize;
+            record = ++appendedRecords;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        flush(record);
+    }
+
+    private void flush(long record) {
+        flushLock.lock();
+        try {
+            if (flushedRecords >= record) {
+                return;
+            }
+            long written;
+            lock.lock();
+            try {
+                written = appendedRecords;
+            } finally {
+                lock.unlock();
+            }
+            buffer.force();
+            flushedRecords = written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Wait up to the timeout for a record to drain; true when one is pending.
+     */
+    boolean awaitPending(long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            if (isEmpty()) {
+                appended.await(timeout, unit);
+            }
+            return !isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The oldest pending records, at most {@code max}.
+     */
+    List<Entry> pending(int max) {
+        lock.lock();
+        try {
+            List<Entry> entries = new ArrayList<>();
+            int position = drainedOffset;
+            int generation = drainedGeneration;
+            while ((position != writeOffset || generation != writeGeneration) && entries.size() < max) {
+                if (generation != writeGeneration && position == wrapOffset) {
+                    position = HEADER_SIZE;
+                    generation++;
+                    continue;
+                }
+                Entry entry = read(position, generation);
+                entries.add(entry);
+                position = entry.getEnd();
+            }
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record that every record up to {@code last}, as returned by {@link #pending}, is drained.
+     */
+    void markDrained(Entry last) {
+        lock.lock();
+        try {
+            if (last.generation != drainedGeneration && last.generation != writeGeneration) {
+                throw new IllegalArgumentException("Record outside the pending records");
+            }
+            int end = last.end;
+            int generation = last.generation;
+            if (end == writeOffset && generation == writeGeneration) {
+                // Nothing left: start over at the beginning of the file in a new generation, which the records
+                // still there from this one do not match
+                end = HEADER_SIZE;
+                generation++;
+                writeOffset = end;
+                writeGeneration = generation;
+            }
+            buffer.putInt(DRAINED_OFFSET_POSITION, end);
+            buffer.putInt(DRAINED_GENERATION_POSITION, generation);
+            buffer.force(0, HEADER_SIZE);
+            drainedOffset = end;
+            drainedGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Size in bytes of the records not yet drained.
+     */
+    int pendingBytes() {
+        lock.lock();
+        try {
+            if (writeGeneration == drainedGeneration) {
+                return writeOffset - drainedOffset;
+            }
+            return wrapOffset - drainedOffset + writeOffset - HEADER_SIZE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean isEmpty() {
+        return drainedOffset == writeOffset && drainedGeneration == writeGeneration;
+    }
+
+    private Entry read(int position, int generation) {
+        if (position + RECORD_HEADER_SIZE > capacity) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        int end = position + RECORD_HEADER_SIZE + length;
+        if (length <= 0 || end < 0 || end + END_MARKER_SIZE > capacity) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(position + RECORD_HEADER_SIZE, payload);
+        if (checksum(generation, payload) != buffer.getInt(position + 4)) {
+            return null;
+        }
+        return new Entry(payload, end, generation);
+    }
+
+    private static int checksum(int generation, byte[] payload) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(ByteBuffer.allocate(Integer.BYTES).putInt(0, generation));
+        checksum.update(payload);
+        return (int) checksum.getValue();
+    }
+
+    static final class Entry {
+        private final byte[] payload;
+        private final int end;
+        private final int generation;
+
+        private Entry(byte[] payload, int end, int generation) {
+            this.payload = payload;
+            this.end = end;
+            this.generation = generation;
+        }
+
+        byte[] getPayload() {
+            return payload;
+        }
+
+        int getEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.football_db.writebehind;
+
+import com.example.football_db.changes.TeamChangeFeed;
+import com.example.football_db.constant.PersistenceStatus;
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.constant.TeamChangeType;
+import com.example.football_db.dto.player.PlayerDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.repository.TeamRepository;
+import com.example.football_db.search.SearchIndexer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind team creation, enabled with {@code football-db.write-behind.enabled=true}.
+ * <p>
+ * {@link #enqueue} assigns the team and player IDs, appends the team to a {@link TeamCommandLog} on local disk and
+ * returns without touching the database. A single background thread drains the log into PostgreSQL, inserting
+ * every team queued since its last pass (up to the batch size) in one transaction. Inserts skip teams already
+ * present, so teams committed just before a crash and replayed from the log afterwards are not duplicated.
+ * Teams still in the log at startup are queued again.
+ * <p>
+ * Teams the database rejects are reported as FAILED for {@code failed-retention}, keeping at most
+ * {@code failed-maximum-size} of them; they are only held in memory, so after a restart, or once forgotten, their
+ * status is unknown like that of a team never queued. The error log keeps every rejected team.
+ */
+@Component
+@ConditionalOnProperty(prefix = "football-db.write-behind", name = "enabled", havingValue = "true")
+public class TeamWriteBehindQueue {
+    private static final Logger logger = LoggerFactory.getLogger(TeamWriteBehindQueue.class);
+    private static final byte RECORD_VERSION = 1;
+
+    private final TeamCommandLog log;
+    private final TeamRepository teamRepository;
+    private final SearchIndexer searchIndexer;
+    private final TeamChangeFeed teamChangeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retryDelay;
+    // Teams in the log; a team leaves the set once persisted or rejected
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final Cache<UUID, Boolean> failed;
+    private volatile boolean running;
+    private Thread drainer;
+
+    public TeamWriteBehindQueue(TeamRepository teamRepository, SearchIndexer searchIndexer,
+                                TeamChangeFeed teamChangeFeed, PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${football-db.write-behind.log-path:data/team-commands.log}") Path logPath,
+                                @Value("${football-db.write-behind.log-size:64MB}") DataSize logSize,
+                                @Value("${football-db.write-behind.batch-size:1000}") int batchSize,
+                                @Value("${football-db.write-behind.retry-delay:1s}") Duration retryDelay,
+                                @Value("${football-db.write-behind.failed-retention:24h}") Duration failedRetention,
+                                @Value("${football-db.write-behind.failed-maximum-size:10000}") long failedMaximumSize)
+            throws IOException {
+        this.teamRepository = teamRepository;
+        this.searchIndexer = searchIndexer;
+        this.teamChangeFeed = teamChangeFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.failed = Caffeine.newBuilder()
+                .maximumSize(failedMaximumSize)
+                .expireAfterWrite(failedRetention)
+                .build();
+        this.log = new TeamCommandLog(logPath, Math.toIntExact(logSize.toBytes()));
+        for (TeamCommandLog.Entry entry : log.pending(Integer.MAX_VALUE)) {
+            queued.add(decode(entry.getPayload()).getId());
+        }
+        if (!queued.isEmpty()) {
+            logger.info("Write-behind log replayed - queued teams: {}", queued.size());
+        }
+        Gauge.builder("team.write-behind.pending.bytes", log, TeamCommandLog::pendingBytes)
+                .description("Size of the team commands not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Assign IDs to a new team and its players and queue it; the team is durable on local disk when this returns.
+     *
+     * @throws com.example.football_db.exception.WriteBehindQueueFullException when the log is full
+     */
+    public TeamDTO enqueue(CreateTeamDTO createTeamDto) {
+        List<PlayerDTO> players = new ArrayList<>();
+        if (createTeamDto.getPlayers() != null) {
+            createTeamDto.getPlayers().forEach(player ->
+                    players.add(new PlayerDTO(newId(), player.getName(), player.getPosition())));
+        }
+        TeamDTO team = new TeamDTO(newId(), createTeamDto.getName(), createTeamDto.getAcronym(),
+                createTeamDto.getBudget(), players);
+        // Marked before the append so that the drainer, which clears the status, always comes after
+        queued.add(team.getId());
+        try {
+            log.append(encode(team));
+        } catch (RuntimeException e) {
+            queued.remove(team.getId());
+            throw e;
+        }
+        return team;
+    }
+
+    /**
+     * QUEUED for teams in the log, FAILED for teams recently rejected, null otherwise (persisted, never queued,
+     * or rejected and forgotten).
+     */
+    public PersistenceStatus getStatus(UUID id) {
+        if (queued.contains(id)) {
+            return PersistenceStatus.QUEUED;
+        }
+        return failed.getIfPresent(id) != null ? PersistenceStatus.FAILED : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        drainer = Thread.ofPlatform().name("team-write-behind").daemon().start(this::drain);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        if (drainer != null) {
+            // The drainer wakes up at least every second; a batch in flight is left to finish
+            drainer.join(Duration.ofSeconds(30));
+        }
+        log.close();
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                if (!log.awaitPending(1, TimeUnit.SECONDS)) {
+                    continue;
+                }
+                List<TeamCommandLog.Entry> entries = log.pending(batchSize);
+                List<TeamDTO> teams = new ArrayList<>(entries.size());
+                entries.forEach(entry -> teams.add(decode(entry.getPayload())));
+                persist(teams);
+                log.markDrained(entries.getLast());
+                teams.forEach(team -> queued.remove(team.getId()));
+                logger.info("Queued teams persisted - count: {}", teams.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Write-behind drain failed, retrying in {}", retryDelay, e);
+                try {
+                    Thread.sleep(retryDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void persist(List<TeamDTO> teams) {
+        try {
+            insert(teams);
+        } catch (DataIntegrityViolationException e) {
+            // One team the database rejects must not hold back the others: insert them one by one
+            for (TeamDTO team : teams) {
+                try {
+                    insert(List.of(team));
+                } catch (DataIntegrityViolationException rejected) {
+                    failed.put(team.getId(), Boolean.TRUE);
+                    logger.error("Queued team rejected - id: {}", team.getId(), rejected);
+                }
+            }
+        }
+    }
+
+    private void insert(List<TeamDTO> teams) {
+        transactionTemplate.executeWithoutResult(status -> {
+            teamRepository.insertAllIfAbsent(teams);
+            // A batch replayed after a crash records its changes again: the feed is at-least-once
+            teamRepository.recordChanges(teams.stream().map(TeamDTO::getId).toList(), TeamChangeType.CREATED);
+            teamChangeFeed.changesRecorded();
+            searchIndexer.teamsInserted(teams);
+        });
+    }
+
+    private static UUID newId() {
+        return UuidVersion7Strategy.INSTANCE.generateUuid(null);
+    }
+
+    static byte[] encode(TeamDTO team) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_VERSION);
+            writeId(out, team.getId());
+            out.writeUTF(team.getName());
+            out.writeUTF(team.getAcronym());
+            out.writeUTF(team.getBudget().toPlainString());
+            out.writeInt(team.getPlayers().size());
+            for (PlayerDTO player : team.getPlayers()) {
+                writeId(out, player.getId());
+                out.writeUTF(player.getName());
+                out.writeUTF(player.getPosition() != null ? player.getPosition().name() : "");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static TeamDTO decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != RECORD_VERSION) {
+                throw new IllegalStateException("Unknown team command version: " + version);
+            }
+            UUID id = readId(in);
+            String name = in.readUTF();
+            String acronym = in.readUTF();
+            BigDecimal budget = new BigDecimal(in.readUTF());
+            int playerCount = in.readInt();
+            List<PlayerDTO> players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                UUID playerId = readId(in);
+                String playerName = in.readUTF();
+                String position = in.readUTF();
+                players.add(new PlayerDTO(playerId, playerName,
+                        position.isEmpty() ? null : PlayerPosition.valueOf(position)));
+            }
+            return new TeamDTO(id, name, acronym, budget, players);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeId(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readId(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
@@ -0,0 +1,35 @@
+-- Teams and their rosters. Hibernate only validates this schema (ddl-auto=validate).
+
+-- Budget and version change in place (PUT/PATCH): leave room on each page so those updates stay HOT
+-- (heap-only: no index touched as long as the name is unchanged)
+create table teams (
+    id      uuid           not null,
+    name    varchar(255)   not null,
+    acronym varchar(255)   not null,
+    budget  numeric(15, 2) not null,
+    version bigint         not null default 0,
+    constraint pk_teams primary key (id),
+    constraint ck_teams_budget_positive check (budget > 0)
+) with (fillfactor = 90);
+
+-- Keyset pagination by (name, id)
+create index idx_teams_name_id on teams (name, id);
+
+-- Players are only inserted and deleted, never updated: pages are filled completely
+create table players (
+    id       uuid         not null,
+    name     varchar(255) not null,
+    position varchar(16),
+    team_id  uuid         not null,
+    constraint pk_players primary key (id),
+    constraint ck_players_position check (position in ('DEFENSEUR', 'ATTAQUANT', 'MILIEU', 'GARDIEN')),
+    -- Deleting a team removes its roster in the database, without loading the players
+    constraint fk_players_team foreign key (team_id) references teams (id) on delete cascade
+) with (fillfactor = 100);
+
+-- Roster loads, position filters and the cascade from teams; also serves lookups on team_id alone
+create index idx_players_team_id_position on players (team_id, position);
+
+-- Player search key: lower(name) in the byte-wise "C" collation serves both the keyset order and like 'abc%' prefixes
+create index idx_players_name_key on players ((lower(name) collate "C"), id);
+create index idx_players_position_name_key on players (position, (lower(name) collate "C"), id);
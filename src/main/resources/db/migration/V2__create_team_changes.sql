@@ -0,0 +1,22 @@
+-- Outbox of team changes: TeamServiceImpl inserts a row in the same transaction as each team it creates,
+-- updates or deletes; GET /api/v1/teams/changes reads them back as a change feed.
+
+-- Rows are read in (transaction_id, id) order, and only once every transaction with a lower ID has ended
+-- (below the snapshot xmin). An identity value is taken at insert time, not at commit, so reading by id alone
+-- could skip a row whose transaction commits after a later one has already been read.
+create table team_changes (
+    id             bigint      generated always as identity,
+    transaction_id bigint      not null default pg_current_xact_id()::text::bigint,
+    team_id        uuid        not null,
+    change_type    varchar(16) not null,
+    version        bigint      not null,
+    changed_at     timestamptz not null default now(),
+    constraint pk_team_changes primary key (id),
+    constraint ck_team_changes_type check (change_type in ('CREATED', 'UPDATED', 'DELETED'))
+);
+
+-- Change feed position
+create index idx_team_changes_position on team_changes (transaction_id, id);
+
+-- Retention purge: rows are appended in time order, so a BRIN index is enough and costs almost nothing to maintain
+create index idx_team_changes_changed_at on team_changes using brin (changed_at);
@@ -0,0 +1,56 @@
+package com.example.football_db.controller;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.exception.PlayerNotFoundException;
+import com.example.football_db.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerControllerTest {
+    @Mock
+    private PlayerService playerService;
+    @InjectMocks
+    private PlayerController playerController;
+
+    @Test
+    void testSearch_ClampsSize() {
+        // Arrange
+        PlayerSummaryDTO player = new PlayerSummaryDTO(UUID.randomUUID(), "Dante", PlayerPosition.DEFENSEUR,
+                UUID.randomUUID(), "OGC Nice");
+        when(playerService.searchPlayers(PlayerPosition.DEFENSEUR, null, "Da", null, 100))
+                .thenReturn(new CursorPageDTO<>(List.of(player), null));
+
+        // Act
+        ResponseEntity<CursorPageDTO<PlayerSummaryDTO>> response =
+                playerController.search(PlayerPosition.DEFENSEUR, null, "Da", null, 5000);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getItems().size());
+        assertFalse(response.getBody().isHasNext());
+    }
+
+    @Test
+    void testFindById_NotFound() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(playerService.getPlayerById(id)).thenThrow(new PlayerNotFoundException("Player not found with ID: " + id));
+
+        // Act & Assert
+        assertThrows(PlayerNotFoundException.class, () -> playerController.findById(id));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.football_db.controller;
+
+import com.example.football_db.dto.search.SearchResultDTO;
+import com.example.football_db.dto.search.TeamHitDTO;
+import com.example.football_db.service.SearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchControllerTest {
+    @Mock
+    private SearchService searchService;
+    @InjectMocks
+    private SearchController searchController;
+
+    @Test
+    void testSearch_ClampsLimit() {
+        // Arrange
+        TeamHitDTO team = new TeamHitDTO(UUID.randomUUID(), "Olympique Lyonnais", "OL");
+        when(searchService.search("lyon", 50)).thenReturn(new SearchResultDTO(List.of(team), List.of()));
+
+        // Act
+        ResponseEntity<SearchResultDTO> response = searchController.search("lyon", 1000);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getTeams().size());
+        assertTrue(response.getBody().getPlayers().isEmpty());
+    }
+}
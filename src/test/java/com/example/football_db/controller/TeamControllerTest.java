@@ -1,36 +1,73 @@
 package com.example.football_db.controller;
 
+import com.example.football_db.constant.BulkItemStatus;
+import com.example.football_db.constant.PersistenceStatus;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.team.BulkDeleteResultDTO;
+import com.example.football_db.dto.team.BulkDeleteTeamsDTO;
+import com.example.football_db.dto.team.BulkTeamResultDTO;
 import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.PatchTeamDTO;
 import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.dto.team.TeamPersistenceStatusDTO;
+import com.example.football_db.dto.team.TeamSummaryDTO;
 import com.example.football_db.dto.team.UpdateTeamDTO;
 import com.example.football_db.exception.TeamNotFoundException;
+import com.example.football_db.exception.TeamVersionConflictException;
+import com.example.football_db.service.TeamImportService;
+import com.example.football_db.service.TeamResponseCache;
 import com.example.football_db.service.TeamService;
+import com.example.football_db.writebehind.TeamWriteBehindQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TeamControllerTest {
     @Mock
     private TeamService teamService;
+    @Mock
+    private TeamImportService teamImportService;
+    @Mock
+    private ObjectProvider<TeamWriteBehindQueue> writeBehindQueueProvider;
+    @Mock
+    private TeamWriteBehindQueue writeBehindQueue;
+    @Spy
+    private JsonMapper jsonMapper = JsonMapper.builder().build();
+    @Spy
+    private TeamResponseCache teamResponseCache = new TeamResponseCache(jsonMapper, 100, Duration.ofMinutes(1));
     @InjectMocks
     private TeamController teamController;
 
@@ -40,7 +77,7 @@ class TeamControllerTest {
     @BeforeEach
     void setUp() {
         testTeamId = UUID.randomUUID();
-        testTeamDTO = new TeamDTO(testTeamId, "FC Barcelona", "FCB", new BigDecimal("100000.00"), new ArrayList<>());
+        testTeamDTO = new TeamDTO(testTeamId, "FC Barcelona", "FCB", new BigDecimal("100000.00"), new ArrayList<>(), 0L);
     }
 
     @Test
@@ -59,21 +96,120 @@ class TeamControllerTest {
         verify(teamService, times(1)).getAllTeams(any());
     }
 
+    @Test
+    void testFindSummaries_Success() {
+        // Arrange
+        TeamSummaryDTO summary = new TeamSummaryDTO(testTeamId, "FC Barcelona", "FCB", new BigDecimal("100000.00"), 0);
+        when(teamService.getTeamSummaries(any())).thenReturn(new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 1));
+
+        // Act
+        ResponseEntity<Page<TeamSummaryDTO>> response = teamController.findSummaries(PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getTotalElements());
+    }
+
+    @Test
+    void testScroll_ClampsSize() {
+        // Arrange
+        CursorPageDTO<TeamDTO> page = new CursorPageDTO<>(List.of(testTeamDTO), "next");
+        when(teamService.getTeamsAfter(null, 100)).thenReturn(page);
+
+        // Act
+        ResponseEntity<CursorPageDTO<TeamDTO>> response = teamController.scroll(null, 5000);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("next", response.getBody().getNextCursor());
+        verify(teamService, times(1)).getTeamsAfter(null, 100);
+    }
+
+    @Test
+    void testExport_Success() throws IOException {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<TeamDTO> consumer = invocation.getArgument(0);
+            consumer.accept(testTeamDTO);
+            consumer.accept(testTeamDTO);
+            return null;
+        }).when(teamService).exportTeams(any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = teamController.export();
+        response.getBody().writeTo(outputStream);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains(testTeamId.toString()));
+    }
+
     @Test
     void testFindById_Success() {
         // Arrange
         when(teamService.getTeamById(testTeamId)).thenReturn(testTeamDTO);
 
         // Act
-        ResponseEntity<TeamDTO> response = teamController.findById(testTeamId);
+        ResponseEntity<byte[]> response = teamController.findById(testTeamId, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(testTeamDTO.getId(), response.getBody().getId());
-        assertEquals("FC Barcelona", response.getBody().getName());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertNotNull(response.getHeaders().getETag());
+        JsonNode body = jsonMapper.readTree(response.getBody());
+        assertEquals(testTeamId.toString(), body.get("id").asString());
+        assertEquals("FC Barcelona", body.get("name").asString());
+        verify(teamService, times(1)).getTeamById(testTeamId);
+    }
+
+    @Test
+    void testFindById_ServedFromResponseCache() {
+        // Arrange
+        when(teamService.getTeamById(testTeamId)).thenReturn(testTeamDTO);
+
+        // Act
+        ResponseEntity<byte[]> first = teamController.findById(testTeamId, null);
+        ResponseEntity<byte[]> second = teamController.findById(testTeamId, null);
+
+        // Assert
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
         verify(teamService, times(1)).getTeamById(testTeamId);
     }
 
+    @Test
+    void testFindById_NotModified() {
+        // Arrange
+        when(teamService.getTeamVersion(testTeamId)).thenReturn(2L);
+
+        // Act
+        ResponseEntity<byte[]> response = teamController.findById(testTeamId, "W/\"2\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("W/\"2\"", response.getHeaders().getETag());
+        verify(teamService, never()).getTeamById(testTeamId);
+    }
+
+    @Test
+    void testFindById_StaleVersion() {
+        // Arrange
+        TeamDTO current = new TeamDTO(testTeamId, "FC Barcelona", "FCB", new BigDecimal("100000.00"), List.of(), 3L);
+        when(teamService.getTeamVersion(testTeamId)).thenReturn(3L);
+        when(teamService.getTeamById(testTeamId)).thenReturn(current);
+
+        // Act
+        ResponseEntity<byte[]> response = teamController.findById(testTeamId, "W/\"2\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("W/\"3\"", response.getHeaders().getETag());
+    }
+
     @Test
     void testFindById_NotFound() {
         // Arrange
@@ -81,7 +217,7 @@ class TeamControllerTest {
                 .thenThrow(new TeamNotFoundException("Team not found with ID: " + testTeamId));
 
         // Act & Assert
-        assertThrows(TeamNotFoundException.class, () -> teamController.findById(testTeamId));
+        assertThrows(TeamNotFoundException.class, () -> teamController.findById(testTeamId, null));
         verify(teamService, times(1)).getTeamById(testTeamId);
     }
 
@@ -104,20 +240,98 @@ class TeamControllerTest {
         verify(teamService, times(1)).save(any(CreateTeamDTO.class));
     }
 
+    @Test
+    void testSave_WriteBehind() {
+        // Arrange
+        CreateTeamDTO createTeamDTO = new CreateTeamDTO();
+        createTeamDTO.setName("FC Barcelona");
+        createTeamDTO.setAcronym("FCB");
+        createTeamDTO.setBudget(new BigDecimal("100000.00"));
+
+        when(writeBehindQueueProvider.getIfAvailable()).thenReturn(writeBehindQueue);
+        when(writeBehindQueue.enqueue(createTeamDTO)).thenReturn(testTeamDTO);
+        TeamController writeBehindController = new TeamController(teamService, teamImportService,
+                teamResponseCache, jsonMapper, writeBehindQueueProvider);
+
+        // Act
+        ResponseEntity<TeamDTO> response = writeBehindController.save(createTeamDTO);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(testTeamId, response.getBody().getId());
+        assertEquals("/api/v1/teams/" + testTeamId + "/status", response.getHeaders().getLocation().toString());
+        verify(teamService, never()).save(any());
+    }
+
+    @Test
+    void testGetStatus_Queued() {
+        // Arrange
+        when(writeBehindQueueProvider.getIfAvailable()).thenReturn(writeBehindQueue);
+        when(writeBehindQueue.getStatus(testTeamId)).thenReturn(PersistenceStatus.QUEUED);
+        TeamController writeBehindController = new TeamController(teamService, teamImportService,
+                teamResponseCache, jsonMapper, writeBehindQueueProvider);
+
+        // Act
+        ResponseEntity<TeamPersistenceStatusDTO> response = writeBehindController.getStatus(testTeamId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(PersistenceStatus.QUEUED, response.getBody().getStatus());
+        verifyNoInteractions(teamService);
+    }
+
+    @Test
+    void testGetStatus_Persisted() {
+        // Arrange
+        when(teamService.getTeamVersion(testTeamId)).thenReturn(0L);
+
+        // Act
+        ResponseEntity<TeamPersistenceStatusDTO> response = teamController.getStatus(testTeamId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(PersistenceStatus.PERSISTED, response.getBody().getStatus());
+    }
+
+    @Test
+    void testGetStatus_NotFound() {
+        // Arrange
+        when(teamService.getTeamVersion(testTeamId)).thenThrow(new TeamNotFoundException("Team not found with ID: " + testTeamId));
+
+        // Act & Assert
+        assertThrows(TeamNotFoundException.class, () -> teamController.getStatus(testTeamId));
+    }
+
+    @Test
+    void testSaveAll_Success() {
+        // Arrange
+        InputStream body = new ByteArrayInputStream("[]".getBytes());
+        List<BulkTeamResultDTO> results = List.of(new BulkTeamResultDTO(0, testTeamId, BulkItemStatus.CREATED, List.of()));
+        when(teamImportService.importTeams(body)).thenReturn(results);
+
+        // Act
+        ResponseEntity<List<BulkTeamResultDTO>> response = teamController.saveAll(body);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        verify(teamImportService, times(1)).importTeams(body);
+    }
+
     @Test
     void testUpdate_Success() {
         // Arrange
         UpdateTeamDTO updateTeamDTO = new UpdateTeamDTO();
         updateTeamDTO.setName("Updated Name");
 
-        when(teamService.update(eq(testTeamId), any(UpdateTeamDTO.class))).thenReturn(testTeamDTO);
+        when(teamService.update(eq(testTeamId), any(UpdateTeamDTO.class), isNull())).thenReturn(testTeamDTO);
 
         // Act
-        ResponseEntity<TeamDTO> response = teamController.update(updateTeamDTO, testTeamId);
+        ResponseEntity<TeamDTO> response = teamController.update(updateTeamDTO, testTeamId, null);
 
         // Assert
         assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
-        verify(teamService, times(1)).update(eq(testTeamId), any(UpdateTeamDTO.class));
+        verify(teamService, times(1)).update(eq(testTeamId), any(UpdateTeamDTO.class), isNull());
     }
 
     @Test
@@ -126,13 +340,64 @@ class TeamControllerTest {
         UpdateTeamDTO updateTeamDTO = new UpdateTeamDTO();
         updateTeamDTO.setName("Updated Name");
 
-        when(teamService.update(eq(testTeamId), any(UpdateTeamDTO.class)))
+        when(teamService.update(eq(testTeamId), any(UpdateTeamDTO.class), isNull()))
                 .thenThrow(new TeamNotFoundException("Team not found with ID: " + testTeamId));
 
         // Act & Assert
         assertThrows(TeamNotFoundException.class,
-            () -> teamController.update(updateTeamDTO, testTeamId));
-        verify(teamService, times(1)).update(eq(testTeamId), any(UpdateTeamDTO.class));
+            () -> teamController.update(updateTeamDTO, testTeamId, null));
+        verify(teamService, times(1)).update(eq(testTeamId), any(UpdateTeamDTO.class), isNull());
+    }
+
+    @Test
+    void testUpdate_IfMatch() {
+        // Arrange
+        UpdateTeamDTO updateTeamDTO = new UpdateTeamDTO();
+        updateTeamDTO.setName("Updated Name");
+        TeamDTO updated = new TeamDTO(testTeamId, "Updated Name", "FCB", new BigDecimal("100000.00"), List.of(), 4L);
+        when(teamService.update(testTeamId, updateTeamDTO, 3L)).thenReturn(updated);
+
+        // Act
+        ResponseEntity<TeamDTO> response = teamController.update(updateTeamDTO, testTeamId, "W/\"3\"");
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("W/\"4\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testUpdate_IfMatchNotAVersion() {
+        // Act & Assert
+        assertThrows(TeamVersionConflictException.class,
+            () -> teamController.update(new UpdateTeamDTO(), testTeamId, "\"abc\""));
+        verifyNoInteractions(teamService);
+    }
+
+    @Test
+    void testPatch_Success() {
+        // Arrange
+        PatchTeamDTO patchTeamDTO = new PatchTeamDTO();
+        patchTeamDTO.setBudgetDelta(new BigDecimal("-500.00"));
+        when(teamService.patch(testTeamId, patchTeamDTO, 3L)).thenReturn(4L);
+
+        // Act
+        ResponseEntity<Void> response = teamController.patch(patchTeamDTO, testTeamId, "W/\"3\"");
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals("W/\"4\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testPatch_NotFound() {
+        // Arrange
+        PatchTeamDTO patchTeamDTO = new PatchTeamDTO();
+        patchTeamDTO.setName("Updated Name");
+        when(teamService.patch(testTeamId, patchTeamDTO, null))
+                .thenThrow(new TeamNotFoundException("Team not found with ID: " + testTeamId));
+
+        // Act & Assert
+        assertThrows(TeamNotFoundException.class, () -> teamController.patch(patchTeamDTO, testTeamId, null));
     }
 
     @Test
@@ -158,5 +423,19 @@ class TeamControllerTest {
         assertThrows(TeamNotFoundException.class, () -> teamController.deleteById(testTeamId));
         verify(teamService, times(1)).deleteById(testTeamId);
     }
-}
 
+    @Test
+    void testDeleteAll_Success() {
+        // Arrange
+        List<UUID> ids = List.of(testTeamId, UUID.randomUUID());
+        when(teamService.deleteAllById(ids)).thenReturn(1);
+
+        // Act
+        ResponseEntity<BulkDeleteResultDTO> response = teamController.deleteAll(new BulkDeleteTeamsDTO(ids));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().getRequested());
+        assertEquals(1, response.getBody().getDeleted());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.football_db.integration;
+
+import com.example.football_db.exception.TeamNotFoundException;
+import com.example.football_db.service.TeamService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MetricsIntegrationTest {
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+
+    @Test
+    void testTeamServiceMethods_AreTimed() {
+        // Act
+        teamService.getTeamSummaries(PageRequest.of(0, 10));
+        assertThrows(TeamNotFoundException.class, () -> teamService.getTeamById(UUID.randomUUID()));
+
+        // Assert
+        Timer summaries = meterRegistry.get("team.service").tag("method", "getTeamSummaries").timer();
+        assertTrue(summaries.count() >= 1);
+        Timer notFound = meterRegistry.get("team.service").tag("method", "getTeamById")
+                .tag("exception", "TeamNotFoundException").timer();
+        assertTrue(notFound.count() >= 1);
+    }
+
+    @Test
+    void testHibernateStatistics_AreExposed() {
+        // Act
+        teamService.getTeamSummaries(PageRequest.of(0, 10));
+
+        // Assert
+        assertTrue(meterRegistry.get("hibernate.statements").tag("status", "prepared").functionCounter().count() > 0);
+        assertFalse(meterRegistry.find("hibernate.query").timers().isEmpty());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").meter());
+    }
+}
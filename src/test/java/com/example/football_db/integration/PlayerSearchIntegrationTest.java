@@ -0,0 +1,132 @@
+package com.example.football_db.integration;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.player.CreatePlayerDTO;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.service.PlayerService;
+import com.example.football_db.service.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PlayerSearchIntegrationTest {
+    private static final PlayerPosition[] POSITIONS = PlayerPosition.values();
+
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID firstTeamId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        firstTeamId = teamService.save(createTeam(0)).getId();
+        teamService.save(createTeam(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void testSearchPlayers_WalksAllPlayersInNameOrder() {
+        // Arrange
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+
+        // Act
+        do {
+            CursorPageDTO<PlayerSummaryDTO> page = playerService.searchPlayers(null, null, null, cursor, 3);
+            page.getItems().forEach(player -> names.add(player.getName()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(20, names.size());
+        assertEquals(names.stream().sorted(Comparator.comparing(name -> name.toLowerCase(Locale.ROOT))).toList(), names);
+    }
+
+    @Test
+    void testSearchPlayers_CombinesFilters() {
+        // Act
+        CursorPageDTO<PlayerSummaryDTO> page = playerService.searchPlayers(
+                PlayerPosition.GARDIEN, firstTeamId, "player 0-", null, 100);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        page.getItems().forEach(player -> {
+            assertEquals(PlayerPosition.GARDIEN, player.getPosition());
+            assertEquals(firstTeamId, player.getTeamId());
+            assertEquals("Team 0", player.getTeamName());
+        });
+    }
+
+    @Test
+    void testSearchPlayers_PrefixWildcardsAreLiteral() {
+        // Act & Assert
+        assertTrue(playerService.searchPlayers(null, null, "%", null, 100).getItems().isEmpty());
+        assertEquals(1, playerService.searchPlayers(null, null, "Jean_", null, 100).getItems().size());
+    }
+
+    @Test
+    void testSearchPlayers_PlayerWithoutPosition() {
+        // Arrange
+        CreateTeamDTO team = createTeam(2);
+        team.setPlayers(List.of(new CreatePlayerDTO("Anonyme", null)));
+        teamService.save(team);
+
+        // Act
+        List<PlayerSummaryDTO> players = playerService.searchPlayers(null, null, "anonyme", null, 100).getItems();
+
+        // Assert
+        assertEquals(1, players.size());
+        assertNull(players.get(0).getPosition());
+        assertEquals(21, playerService.searchPlayers(null, null, null, null, 100).getItems().size());
+    }
+
+    @Test
+    void testNameIndexes_Exist() {
+        // Act
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select indexname from pg_indexes where tablename = 'players'", String.class);
+
+        // Assert
+        assertTrue(indexes.containsAll(List.of("idx_players_name_key", "idx_players_position_name_key")));
+    }
+
+    private static CreateTeamDTO createTeam(int index) {
+        List<CreatePlayerDTO> players = new ArrayList<>();
+        for (int j = 0; j < 9; j++) {
+            players.add(new CreatePlayerDTO("Player " + index + "-" + j, POSITIONS[j % POSITIONS.length]));
+        }
+        // "_" must not act as a LIKE wildcard: only Jean_Pierre matches the prefix "Jean_"
+        players.add(new CreatePlayerDTO(index == 0 ? "Jean_Pierre" : "JeanXPierre", PlayerPosition.MILIEU));
+        return TestTeams.team("Team " + index, "T" + index, TestTeams.BUDGET, players);
+    }
+
+    private void cleanUp() {
+        TestTeams.deleteAll(jdbcTemplate, entityManagerFactory);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.football_db.integration;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.CreatePlayerDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.entity.Team;
+import com.example.football_db.search.SearchIndexer;
+import com.example.football_db.service.TeamResponseCache;
+import com.example.football_db.service.TeamService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The replica points at the primary's database, so reads see every write while each pool's
+ * connection usage shows where statements were routed.
+ */
+@SpringBootTest(properties = {
+        "football-db.datasource.replica.url=${spring.datasource.url}",
+        "spring.datasource.hikari.minimum-idle=2",
+        "football-db.search.compaction-ratio=0",
+        "football-db.search.compaction-min-dead=1"
+})
+class ReadReplicaIntegrationTest {
+    private static final String PRIMARY_POOL = "football-db";
+    private static final String REPLICA_POOL = "football-db-replica";
+
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private TeamResponseCache teamResponseCache;
+    @Autowired
+    private SearchIndexer searchIndexer;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        TestTeams.deleteAll(jdbcTemplate, entityManagerFactory);
+    }
+
+    @Test
+    void testSave_UsesPrimary() {
+        // Arrange
+        long primaryBefore = connectionUses(PRIMARY_POOL);
+        long replicaBefore = connectionUses(REPLICA_POOL);
+
+        // Act
+        teamService.save(createTeam());
+
+        // Assert
+        assertEquals(primaryBefore + 1, connectionUses(PRIMARY_POOL));
+        assertEquals(replicaBefore, connectionUses(REPLICA_POOL));
+    }
+
+    @Test
+    void testGetAllTeams_UsesReplica() {
+        // Arrange
+        teamService.save(createTeam());
+        long primaryBefore = connectionUses(PRIMARY_POOL);
+        long replicaBefore = connectionUses(REPLICA_POOL);
+
+        // Act
+        Page<TeamDTO> page = teamService.getAllTeams(PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, page.getTotalElements());
+        assertEquals(1, page.getContent().get(0).getPlayers().size());
+        assertEquals(primaryBefore, connectionUses(PRIMARY_POOL));
+        assertEquals(replicaBefore + 1, connectionUses(REPLICA_POOL));
+    }
+
+    @Test
+    void testReplicaReads_DoNotFillSecondLevelCache() {
+        // Arrange
+        UUID id = teamService.save(createTeam()).getId();
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictAllRegions();
+
+        // Act
+        teamService.getAllTeams(PageRequest.of(0, 10));
+
+        // Assert
+        assertFalse(cache.containsEntity(Team.class, id));
+    }
+
+    @Test
+    void testGetTeamById_UsesReplica() {
+        // Arrange
+        UUID id = teamService.save(createTeam()).getId();
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictAllRegions();
+        long primaryBefore = connectionUses(PRIMARY_POOL);
+        long replicaBefore = connectionUses(REPLICA_POOL);
+
+        // Act
+        teamService.getTeamById(id);
+
+        // Assert
+        assertEquals(primaryBefore, connectionUses(PRIMARY_POOL));
+        assertEquals(replicaBefore + 1, connectionUses(REPLICA_POOL));
+        assertFalse(cache.containsEntity(Team.class, id));
+    }
+
+    @Test
+    void testResponseCacheLoad_UsesPrimaryAndFillsSecondLevelCache() {
+        // Arrange
+        UUID id = teamService.save(createTeam()).getId();
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictAllRegions();
+        long primaryBefore = connectionUses(PRIMARY_POOL);
+        long replicaBefore = connectionUses(REPLICA_POOL);
+
+        // Act
+        teamResponseCache.get(id, teamService::getTeamById);
+
+        // Assert
+        assertEquals(primaryBefore + 1, connectionUses(PRIMARY_POOL));
+        assertEquals(replicaBefore, connectionUses(REPLICA_POOL));
+        assertTrue(cache.containsEntity(Team.class, id));
+    }
+
+    @Test
+    void testSearchIndexCompaction_ReadsPrimary() {
+        // Arrange
+        UUID deleted = teamService.save(createTeam()).getId();
+        CreateTeamDTO kept = createTeam();
+        kept.setName("Primary FC");
+        teamService.save(kept);
+        long primaryBefore = connectionUses(PRIMARY_POOL);
+        long replicaBefore = connectionUses(REPLICA_POOL);
+
+        // Act: the deleted team and its player are dead entries, enough for a compaction
+        teamService.deleteById(deleted);
+
+        // Assert: one connection for the delete, one for the rebuild
+        await().atMost(Duration.ofSeconds(10)).until(() -> connectionUses(PRIMARY_POOL) >= primaryBefore + 2);
+        assertEquals(replicaBefore, connectionUses(REPLICA_POOL));
+        assertTrue(searchIndexer.search("replica", 10).getTeams().isEmpty());
+        assertEquals(1, searchIndexer.search("primary", 10).getTeams().size());
+    }
+
+    private long connectionUses(String pool) {
+        return meterRegistry.get("hikaricp.connections.usage").tag("pool", pool).timer().count();
+    }
+
+    private static CreateTeamDTO createTeam() {
+        return TestTeams.team("Replica FC", new CreatePlayerDTO("Player", PlayerPosition.MILIEU));
+    }
+}
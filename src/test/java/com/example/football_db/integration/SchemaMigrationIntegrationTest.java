@@ -0,0 +1,48 @@
+package com.example.football_db.integration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SchemaMigrationIntegrationTest {
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testMigrations_AllApplied() {
+        // Act & Assert
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals("2", flyway.info().current().getVersion().getVersion());
+    }
+
+    @Test
+    void testTeams_TunedStorageAndTypes() {
+        // Act
+        List<String> options = jdbcTemplate.queryForList(
+                "select unnest(reloptions) from pg_class where relname = 'teams'", String.class);
+        String budgetType = jdbcTemplate.queryForObject(
+                "select format_type(atttypid, atttypmod) from pg_attribute "
+                        + "where attrelid = 'teams'::regclass and attname = 'budget'", String.class);
+
+        // Assert
+        assertEquals(List.of("fillfactor=90"), options);
+        assertEquals("numeric(15,2)", budgetType);
+    }
+
+    @Test
+    void testTeams_RejectNonPositiveBudget() {
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "insert into teams (id, name, acronym, budget) values (gen_random_uuid(), 'Zero FC', 'ZFC', 0)"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.football_db.integration;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.CreatePlayerDTO;
+import com.example.football_db.dto.search.SearchResultDTO;
+import com.example.football_db.dto.search.TeamHitDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.PatchTeamDTO;
+import com.example.football_db.repository.TeamRepository;
+import com.example.football_db.search.SearchIndexer;
+import com.example.football_db.service.SearchService;
+import com.example.football_db.service.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SearchIntegrationTest {
+    @Autowired
+    private SearchService searchService;
+    @Autowired
+    private SearchIndexer searchIndexer;
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void testSearch_SeesCommittedWrites() {
+        // Arrange
+        UUID id = teamService.save(createTeam("Stade Rennais", "SRFC", "Désiré Doué")).getId();
+
+        // Act
+        SearchResultDTO created = searchService.search("desire do", 10);
+        PatchTeamDTO rename = new PatchTeamDTO();
+        rename.setName("Stade Rennais Football Club");
+        teamService.patch(id, rename, null);
+        SearchResultDTO renamed = searchService.search("rennais footb", 10);
+        teamService.deleteById(id);
+        SearchResultDTO deleted = searchService.search("doue", 10);
+
+        // Assert
+        assertEquals(1, created.getPlayers().size());
+        assertEquals("Désiré Doué", created.getPlayers().get(0).getName());
+        assertEquals(id, created.getPlayers().get(0).getTeamId());
+        assertEquals(List.of(id), renamed.getTeams().stream().map(TeamHitDTO::getId).toList());
+        assertTrue(deleted.getPlayers().isEmpty());
+        assertTrue(searchService.search("rennais", 10).getTeams().isEmpty());
+    }
+
+    @Test
+    void testSearch_IgnoresRolledBackWrites() {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            teamService.save(createTeam("Girondins de Bordeaux", "FCGB", "Yoann Gourcuff"));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertTrue(searchService.search("gourc", 10).getPlayers().isEmpty());
+        assertTrue(searchService.search("bordeaux", 10).getTeams().isEmpty());
+    }
+
+    @Test
+    void testRebuild_LoadsTeamsAndPlayersFromDatabase() {
+        // Arrange
+        teamService.save(createTeam("AS Saint-Étienne", "ASSE", "Dominique Rocheteau"));
+        teamRepository.deleteAll();
+        teamService.save(createTeam("Stade Brestois", "SB29", "Pierre Lees-Melou"));
+
+        // Act
+        searchIndexer.rebuild();
+
+        // Assert
+        assertTrue(searchService.search("etienne", 10).getTeams().isEmpty());
+        SearchResultDTO result = searchService.search("lees mel", 10);
+        assertEquals(1, result.getPlayers().size());
+        assertEquals("Stade Brestois", result.getPlayers().get(0).getTeamName());
+        assertEquals(PlayerPosition.MILIEU, result.getPlayers().get(0).getPosition());
+    }
+
+    private void cleanUp() {
+        TestTeams.deleteAll(jdbcTemplate, entityManagerFactory);
+        searchIndexer.rebuild();
+    }
+
+    private static CreateTeamDTO createTeam(String name, String acronym, String playerName) {
+        return TestTeams.team(name, acronym, TestTeams.BUDGET,
+                List.of(new CreatePlayerDTO(playerName, PlayerPosition.MILIEU)));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.football_db.integration;
+
+import com.example.football_db.changes.TeamChangeFeed;
+import com.example.football_db.constant.TeamChangeType;
+import com.example.football_db.dto.team.PatchTeamDTO;
+import com.example.football_db.dto.team.TeamChangeDTO;
+import com.example.football_db.dto.team.TeamChangesDTO;
+import com.example.football_db.dto.team.UpdateTeamDTO;
+import com.example.football_db.service.TeamChangeService;
+import com.example.football_db.service.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TeamChangeIntegrationTest {
+    @Autowired
+    private TeamChangeService teamChangeService;
+    @Autowired
+    private TeamChangeFeed teamChangeFeed;
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void testGetChanges_OneChangePerWriteInOrder() {
+        // Arrange
+        UUID id = teamService.save(TestTeams.team("Stade de Reims")).getId();
+        PatchTeamDTO patch = new PatchTeamDTO();
+        patch.setBudgetDelta(new BigDecimal("1000.00"));
+        teamService.patch(id, patch, null);
+        UpdateTeamDTO update = new UpdateTeamDTO();
+        update.setName("Stade de Reims Champagne");
+        teamService.update(id, update, null);
+        teamService.deleteById(id);
+
+        // Act
+        TeamChangesDTO firstPage = teamChangeService.getChangesAfter(null, 3);
+        TeamChangesDTO secondPage = teamChangeService.getChangesAfter(firstPage.getNextCursor(), 3);
+        TeamChangesDTO thirdPage = teamChangeService.getChangesAfter(secondPage.getNextCursor(), 3);
+
+        // Assert
+        assertEquals(List.of(TeamChangeType.CREATED, TeamChangeType.UPDATED, TeamChangeType.UPDATED),
+                firstPage.getChanges().stream().map(TeamChangeDTO::getType).toList());
+        assertEquals(List.of(0L, 1L, 2L), firstPage.getChanges().stream().map(TeamChangeDTO::getVersion).toList());
+        assertEquals(1, secondPage.getChanges().size());
+        assertEquals(TeamChangeType.DELETED, secondPage.getChanges().get(0).getType());
+        assertEquals(id, secondPage.getChanges().get(0).getTeamId());
+        assertTrue(thirdPage.getChanges().isEmpty());
+        assertEquals(secondPage.getNextCursor(), thirdPage.getNextCursor());
+    }
+
+    @Test
+    void testGetChanges_RolledBackWriteLeavesNoChange() {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            teamService.save(TestTeams.team("Girondins de Bordeaux"));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertTrue(teamChangeService.getChangesAfter(null, 10).getChanges().isEmpty());
+    }
+
+    @Test
+    void testGetChanges_HeldBackBehindRunningTransaction() throws Exception {
+        // Arrange: a transaction writes first and stays open while a later one commits
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UUID> earlier = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    UUID id = teamService.save(TestTeams.team("RC Lens")).getId();
+                    written.countDown();
+                    awaitRelease(release);
+                    return id;
+                }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        UUID later = teamService.save(TestTeams.team("FC Lorient")).getId();
+
+        // Act
+        TeamChangesDTO whileRunning = teamChangeService.getChangesAfter(null, 10);
+        release.countDown();
+        UUID earlierId = earlier.get(10, TimeUnit.SECONDS);
+        TeamChangesDTO afterCommit = teamChangeService.getChangesAfter(whileRunning.getNextCursor(), 10);
+
+        // Assert: the later change is not handed out before the earlier one can be
+        assertTrue(whileRunning.getChanges().isEmpty());
+        assertEquals(List.of(earlierId, later),
+                afterCommit.getChanges().stream().map(TeamChangeDTO::getTeamId).toList());
+    }
+
+    @Test
+    void testPoll_AnsweredWhenChangeCommitted() {
+        // Arrange
+        DeferredResult<TeamChangesDTO> result = teamChangeFeed.poll(null, 10, Duration.ofSeconds(30));
+        assertFalse(result.hasResult());
+
+        // Act
+        UUID id = teamService.save(TestTeams.team("Montpellier HSC")).getId();
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).until(result::hasResult);
+        TeamChangesDTO changes = (TeamChangesDTO) result.getResult();
+        assertEquals(List.of(id), changes.getChanges().stream().map(TeamChangeDTO::getTeamId).toList());
+    }
+
+    @Test
+    void testPoll_ChangesAvailableAnswerImmediately() {
+        // Arrange
+        teamService.save(TestTeams.team("OGC Nice"));
+
+        // Act
+        DeferredResult<TeamChangesDTO> result = teamChangeFeed.poll(null, 10, Duration.ofSeconds(30));
+
+        // Assert
+        assertTrue(result.hasResult());
+        assertEquals(1, ((TeamChangesDTO) result.getResult()).getChanges().size());
+    }
+
+    private void cleanUp() {
+        TestTeams.deleteAll(jdbcTemplate, entityManagerFactory);
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
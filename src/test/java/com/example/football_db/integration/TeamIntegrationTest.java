@@ -1,5 +1,7 @@
 package com.example.football_db.integration;
 
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.entity.Player;
 import com.example.football_db.entity.Team;
 import com.example.football_db.repository.TeamRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -143,5 +146,21 @@ class TeamIntegrationTest {
         // Assert
         assertEquals(15, count);
     }
-}
 
+    @Test
+    void testCreateTeams_TimeOrderedIds() {
+        // Arrange
+        Team first = new Team("Olympique de Marseille", "OM", List.of(new Player("Player", PlayerPosition.MILIEU)),
+                new BigDecimal("100000.00"));
+        Team second = new Team("AS Monaco", "ASM", null, new BigDecimal("100000.00"));
+
+        // Act
+        teamRepository.save(first);
+        teamRepository.save(second);
+
+        // Assert
+        assertEquals(7, first.getId().version());
+        assertEquals(7, first.getPlayers().get(0).getId().version());
+        assertTrue(first.getId().compareTo(second.getId()) < 0);
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.football_db.integration;
+
+import com.example.football_db.config.HibernateCacheConfiguration;
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.player.CreatePlayerDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.PatchTeamDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.dto.team.TeamSummaryDTO;
+import com.example.football_db.dto.team.UpdateTeamDTO;
+import com.example.football_db.entity.Player;
+import com.example.football_db.entity.Team;
+import com.example.football_db.exception.TeamNotFoundException;
+import com.example.football_db.exception.TeamVersionConflictException;
+import com.example.football_db.repository.PlayerRepository;
+import com.example.football_db.repository.TeamRepository;
+import com.example.football_db.service.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TeamQueryCountIntegrationTest {
+    private static final int TEAM_COUNT = 60;
+    private static final int PLAYERS_PER_TEAM = 5;
+
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            teamService.save(createTeam(i, PLAYERS_PER_TEAM));
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void testGetAllTeams_StatementCountIndependentOfPageSize() {
+        // Act
+        long smallPageStatements = countStatements(PageRequest.of(0, 5, Sort.by("name")));
+        long largePageStatements = countStatements(PageRequest.of(0, 50, Sort.by("name")));
+
+        // Assert
+        assertEquals(smallPageStatements, largePageStatements);
+        assertTrue(largePageStatements <= 3, "Expected at most 3 statements, got " + largePageStatements);
+    }
+
+    @Test
+    void testGetAllTeams_LoadsRostersInPageOrder() {
+        // Act
+        Page<TeamDTO> page = teamService.getAllTeams(PageRequest.of(1, 10, Sort.by("name")));
+
+        // Assert
+        assertEquals(TEAM_COUNT, page.getTotalElements());
+        assertEquals(10, page.getContent().size());
+        List<String> names = page.getContent().stream().map(TeamDTO::getName).toList();
+        assertEquals(names.stream().sorted().toList(), names);
+        page.getContent().forEach(team -> assertEquals(PLAYERS_PER_TEAM, team.getPlayers().size()));
+    }
+
+    @Test
+    void testGetAllTeams_ReadOnlyWithoutFlush() {
+        // Arrange
+        statistics.clear();
+
+        // Act
+        teamService.getAllTeams(PageRequest.of(0, 50, Sort.by("name")));
+
+        // Assert - entities loaded in a read-only transaction are never dirty-checked or flushed
+        assertEquals(50 * (1 + PLAYERS_PER_TEAM), statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    @Test
+    void testGetTeamSummaries_CountsPlayersWithoutLoadingThem() {
+        // Arrange
+        statistics.clear();
+
+        // Act
+        Page<TeamSummaryDTO> page = teamService.getTeamSummaries(PageRequest.of(0, 50, Sort.by("name")));
+
+        // Assert
+        assertEquals(TEAM_COUNT, page.getTotalElements());
+        page.getContent().forEach(team -> assertEquals(PLAYERS_PER_TEAM, team.getPlayerCount()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testGetTeamsAfter_WalksAllTeamsWithConstantStatements() {
+        // Arrange
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+
+        // Act
+        do {
+            statistics.clear();
+            CursorPageDTO<TeamDTO> page = teamService.getTeamsAfter(cursor, 7);
+            assertTrue(statistics.getPrepareStatementCount() <= 2);
+            page.getItems().forEach(team -> names.add(team.getName()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(TEAM_COUNT, names.size());
+        assertEquals(names.stream().sorted().distinct().toList(), names);
+    }
+
+    @Test
+    void testSave_BatchesRosterInserts() {
+        // Arrange
+        CreateTeamDTO team = createTeam(TEAM_COUNT, 30);
+        statistics.clear();
+
+        // Act
+        TeamDTO saved = teamService.save(team);
+
+        // Assert - one batch for the team row, one for the 30 players and the outbox row
+        assertEquals(30, saved.getPlayers().size());
+        assertEquals(31, statistics.getEntityInsertCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetTeamById_ServedFromSecondLevelCache() {
+        // Arrange
+        UUID id = teamRepository.findPageOfIds(PageRequest.of(0, 1)).getContent().get(0);
+        teamService.getTeamById(id);
+        statistics.clear();
+
+        // Act
+        TeamDTO team = teamService.getTeamById(id);
+
+        // Assert
+        assertEquals(PLAYERS_PER_TEAM, team.getPlayers().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void testUpdateAndDelete_InvalidateSecondLevelCache() {
+        // Arrange
+        UUID id = teamRepository.findPageOfIds(PageRequest.of(0, 1)).getContent().get(0);
+        teamService.getTeamById(id);
+        UpdateTeamDTO update = new UpdateTeamDTO();
+        update.setName("Renamed");
+
+        // Act & Assert - update
+        teamService.update(id, update, null);
+        assertEquals("Renamed", teamService.getTeamById(id).getName());
+
+        // Act & Assert - delete
+        teamService.deleteById(id);
+        assertThrows(TeamNotFoundException.class, () -> teamService.getTeamById(id));
+    }
+
+    @Test
+    void testPatch_SingleUpdateWithoutLoadingTheTeam() {
+        // Arrange
+        List<UUID> ids = teamRepository.findPageOfIds(PageRequest.of(0, 2)).getContent();
+        UUID id = ids.get(0);
+        ids.forEach(teamService::getTeamById);
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        PatchTeamDTO patch = new PatchTeamDTO();
+        patch.setName("Patched");
+        statistics.clear();
+
+        // Act
+        long version = teamService.patch(id, patch, 0L);
+
+        // Assert - the UPDATE returning the version and the outbox row; only the patched team leaves the cache
+        assertEquals(1L, version);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(cache.containsEntity(Team.class, id));
+        assertTrue(cache.containsEntity(Team.class, ids.get(1)));
+        TeamDTO team = teamService.getTeamById(id);
+        assertEquals("Patched", team.getName());
+        assertEquals(0, new BigDecimal("100000.00").compareTo(team.getBudget()));
+        assertThrows(TeamVersionConflictException.class, () -> teamService.patch(id, patch, 0L));
+    }
+
+    @Test
+    void testPatch_ConcurrentBudgetDeltasAreNotLost() throws InterruptedException {
+        // Arrange
+        UUID id = teamRepository.findPageOfIds(PageRequest.of(0, 1)).getContent().get(0);
+        PatchTeamDTO patch = new PatchTeamDTO();
+        patch.setBudgetDelta(new BigDecimal("10.00"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        for (int i = 0; i < 40; i++) {
+            executor.execute(() -> teamService.patch(id, patch, null));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        TeamDTO team = teamService.getTeamById(id);
+        assertEquals(0, new BigDecimal("100400.00").compareTo(team.getBudget()));
+        assertEquals(40L, team.getVersion());
+    }
+
+    @Test
+    void testDeleteById_OnlyTheDeletedTeamLeavesCache() {
+        // Arrange
+        List<UUID> ids = teamRepository.findPageOfIds(PageRequest.of(0, 2)).getContent();
+        UUID id = ids.get(0);
+        UUID playerId = teamService.getTeamById(id).getPlayers().get(0).getId();
+        UUID otherPlayerId = teamService.getTeamById(ids.get(1)).getPlayers().get(0).getId();
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        statistics.clear();
+
+        // Act
+        teamService.deleteById(id);
+
+        // Assert - the outbox row, the players DELETE and the team DELETE, no load; only the deleted
+        // team, its roster and its players leave the second-level cache
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(cache.containsEntity(Team.class, id));
+        assertFalse(cache.containsCollection(HibernateCacheConfiguration.TEAM_PLAYERS_REGION, id));
+        assertFalse(cache.containsEntity(Player.class, playerId));
+        assertTrue(cache.containsEntity(Team.class, ids.get(1)));
+        assertTrue(cache.containsCollection(HibernateCacheConfiguration.TEAM_PLAYERS_REGION, ids.get(1)));
+        assertTrue(cache.containsEntity(Player.class, otherPlayerId));
+        assertTrue(playerRepository.findById(playerId).isEmpty());
+        assertEquals((TEAM_COUNT - 1) * PLAYERS_PER_TEAM, playerRepository.count());
+        assertThrows(TeamNotFoundException.class, () -> teamService.deleteById(id));
+    }
+
+    @Test
+    void testDeleteAllById_IgnoresUnknownIds() {
+        // Arrange
+        List<UUID> ids = new ArrayList<>(teamRepository.findPageOfIds(PageRequest.of(0, 10)).getContent());
+        ids.add(UUID.randomUUID());
+
+        // Act
+        int deleted = teamService.deleteAllById(ids);
+
+        // Assert
+        assertEquals(10, deleted);
+        assertEquals(TEAM_COUNT - 10, teamRepository.count());
+        assertEquals((TEAM_COUNT - 10) * PLAYERS_PER_TEAM, playerRepository.count());
+    }
+
+    private long countStatements(PageRequest pageRequest) {
+        statistics.clear();
+        Page<TeamDTO> page = teamService.getAllTeams(pageRequest);
+        assertEquals(pageRequest.getPageSize(), page.getContent().size());
+        page.getContent().forEach(team -> assertEquals(PLAYERS_PER_TEAM, team.getPlayers().size()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private CreateTeamDTO createTeam(int index, int playerCount) {
+        List<CreatePlayerDTO> players = new ArrayList<>();
+        for (int j = 0; j < playerCount; j++) {
+            players.add(new CreatePlayerDTO("Player " + index + "-" + j, PlayerPosition.MILIEU));
+        }
+        return TestTeams.team(String.format("Team %03d", index), "T" + index, new BigDecimal("100000.00"), players);
+    }
+
+    private void cleanUp() {
+        TestTeams.deleteAll(jdbcTemplate, entityManagerFactory);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.football_db.integration;
+
+import com.example.football_db.dto.player.CreatePlayerDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Team fixtures and database cleanup shared by the integration tests.
+ */
+final class TestTeams {
+    static final BigDecimal BUDGET = new BigDecimal("1000000.00");
+
+    private TestTeams() {
+    }
+
+    static CreateTeamDTO team(String name, String acronym, BigDecimal budget, List<CreatePlayerDTO> players) {
+        CreateTeamDTO team = new CreateTeamDTO();
+        team.setName(name);
+        team.setAcronym(acronym);
+        team.setBudget(budget);
+        team.setPlayers(players);
+        return team;
+    }
+
+    /**
+     * A team with the default budget, its acronym taken from the first letters of its name.
+     */
+    static CreateTeamDTO team(String name, CreatePlayerDTO... players) {
+        return team(name, name.substring(0, 3).toUpperCase(), BUDGET, List.of(players));
+    }
+
+    /**
+     * Empty the teams, players and change feed tables, and the second-level cache that still holds their rows.
+     */
+    static void deleteAll(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        jdbcTemplate.execute("truncate table players, teams, team_changes");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
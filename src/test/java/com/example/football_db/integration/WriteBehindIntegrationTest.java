@@ -0,0 +1,117 @@
+package com.example.football_db.integration;
+
+import com.example.football_db.constant.PersistenceStatus;
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.constant.TeamChangeType;
+import com.example.football_db.controller.TeamController;
+import com.example.football_db.dto.player.CreatePlayerDTO;
+import com.example.football_db.dto.search.SearchResultDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.repository.TeamRepository;
+import com.example.football_db.search.SearchIndexer;
+import com.example.football_db.service.SearchService;
+import com.example.football_db.service.TeamChangeService;
+import com.example.football_db.service.TeamService;
+import com.example.football_db.writebehind.TeamWriteBehindQueue;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "football-db.write-behind.enabled=true",
+        "football-db.write-behind.log-path=target/write-behind/team-commands.log",
+        "football-db.write-behind.retry-delay=100ms"
+})
+class WriteBehindIntegrationTest {
+    @Autowired
+    private TeamController teamController;
+    @Autowired
+    private TeamWriteBehindQueue writeBehindQueue;
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private SearchService searchService;
+    @Autowired
+    private TeamChangeService teamChangeService;
+    @Autowired
+    private SearchIndexer searchIndexer;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void testSave_QueuedThenPersisted() {
+        // Act
+        ResponseEntity<TeamDTO> response = teamController.save(createTeam("Olympique Lyonnais", new BigDecimal("1000000.00")));
+        UUID id = response.getBody().getId();
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> teamController.getStatus(id).getBody().getStatus() == PersistenceStatus.PERSISTED);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        UUID playerId = response.getBody().getPlayers().get(0).getId();
+        TeamDTO persisted = teamService.getTeamById(id);
+        assertEquals("Olympique Lyonnais", persisted.getName());
+        assertEquals(0L, persisted.getVersion());
+        assertEquals(List.of(playerId), persisted.getPlayers().stream().map(player -> player.getId()).toList());
+        SearchResultDTO result = searchService.search("lyonnais", 10);
+        assertEquals(1, result.getTeams().size());
+        assertEquals(1, searchService.search("lacazette", 10).getPlayers().size());
+        assertTrue(teamChangeService.getChangesAfter(null, 10).getChanges().stream()
+                .anyMatch(change -> change.getTeamId().equals(id) && change.getType() == TeamChangeType.CREATED));
+    }
+
+    @Test
+    void testDrain_RejectedTeamDoesNotHoldBackOthers() {
+        // Arrange: the schema requires a positive budget
+        TeamDTO rejected = writeBehindQueue.enqueue(createTeam("AS Monaco", BigDecimal.ZERO));
+        TeamDTO accepted = writeBehindQueue.enqueue(createTeam("Lille OSC", new BigDecimal("500000.00")));
+
+        // Act
+        await().atMost(Duration.ofSeconds(10)).until(() -> writeBehindQueue.getStatus(accepted.getId()) == null);
+
+        // Assert
+        assertEquals(PersistenceStatus.FAILED, writeBehindQueue.getStatus(rejected.getId()));
+        assertTrue(teamRepository.existsById(accepted.getId()));
+        assertFalse(teamRepository.existsById(rejected.getId()));
+    }
+
+    private void cleanUp() {
+        TestTeams.deleteAll(jdbcTemplate, entityManagerFactory);
+        searchIndexer.rebuild();
+    }
+
+    private static CreateTeamDTO createTeam(String name, BigDecimal budget) {
+        CreateTeamDTO team = TestTeams.team(name, new CreatePlayerDTO("Alexandre Lacazette", PlayerPosition.ATTAQUANT));
+        team.setBudget(budget);
+        return team;
+    }
+}
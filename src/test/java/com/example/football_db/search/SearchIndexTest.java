@@ -0,0 +1,128 @@
+package com.example.football_db.search;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.dto.search.TeamHitDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+    private final UUID psgId = UUID.randomUUID();
+    private final UUID nantesId = UUID.randomUUID();
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        index.addTeam(new TeamHitDTO(psgId, "Paris Saint-Germain", "PSG"));
+        index.addTeam(new TeamHitDTO(nantesId, "FC Nantes", "FCN"));
+        index.addPlayer(player("Kylian Mbappé", PlayerPosition.ATTAQUANT, psgId));
+        index.addPlayer(player("Marquinhos", PlayerPosition.DEFENSEUR, psgId));
+        index.addPlayer(player("Alban Lafont", PlayerPosition.GARDIEN, nantesId));
+    }
+
+    @Test
+    void testSearchPlayers_MatchesWordPrefixIgnoringCaseAndAccents() {
+        // Act
+        List<PlayerSummaryDTO> players = index.searchPlayers("MBAPPE", 10);
+
+        // Assert
+        assertEquals(1, players.size());
+        assertEquals("Kylian Mbappé", players.get(0).getName());
+        assertEquals(PlayerPosition.ATTAQUANT, players.get(0).getPosition());
+        assertEquals(psgId, players.get(0).getTeamId());
+        assertEquals("Paris Saint-Germain", players.get(0).getTeamName());
+    }
+
+    @Test
+    void testSearchPlayers_EveryWordMustMatch() {
+        // Act & Assert
+        assertEquals(1, index.searchPlayers("ky mb", 10).size());
+        assertTrue(index.searchPlayers("ky laf", 10).isEmpty());
+        assertTrue(index.searchPlayers("ylian", 10).isEmpty());
+    }
+
+    @Test
+    void testSearchTeams_MatchesNameAndAcronym() {
+        // Act & Assert
+        assertEquals(List.of(psgId), index.searchTeams("saint", 10).stream().map(TeamHitDTO::getId).toList());
+        assertEquals(List.of(psgId), index.searchTeams("psg", 10).stream().map(TeamHitDTO::getId).toList());
+        // "FC" and "FCN" both start with "fc": the team is listed once
+        assertEquals(List.of(nantesId), index.searchTeams("fc", 10).stream().map(TeamHitDTO::getId).toList());
+    }
+
+    @Test
+    void testSearch_StopsAtLimit() {
+        // Arrange
+        for (int i = 0; i < 30; i++) {
+            index.addPlayer(player("Martin " + i, PlayerPosition.MILIEU, nantesId));
+        }
+
+        // Act & Assert
+        assertEquals(5, index.searchPlayers("mar", 5).size());
+        assertEquals(31, index.searchPlayers("mar", 100).size());
+    }
+
+    @Test
+    void testUpdateTeam_ReplacesOldWords() {
+        // Act
+        index.updateTeam(nantesId, "FC Nantes Atlantique", null);
+        index.updateTeam(psgId, "Paris FC", "PFC");
+
+        // Assert
+        assertEquals(1, index.searchTeams("atlan", 10).size());
+        assertTrue(index.searchTeams("germain", 10).isEmpty());
+        assertEquals("Paris FC", index.searchPlayers("marq", 10).get(0).getTeamName());
+    }
+
+    @Test
+    void testRemoveTeams_RemovesTheirPlayers() {
+        // Act
+        index.removeTeams(List.of(psgId));
+
+        // Assert
+        assertTrue(index.searchTeams("paris", 10).isEmpty());
+        assertTrue(index.searchPlayers("marquinhos", 10).isEmpty());
+        assertEquals(1, index.getTeamCount());
+        assertEquals(1, index.getPlayerCount());
+    }
+
+    @Test
+    void testDeadEntries_CountRemovedDocumentsAndFormerWords() {
+        // Act
+        index.updateTeam(nantesId, "FC Nantes Atlantique", null);
+        index.updateTeam(psgId, "Paris SG", null);
+        index.removeTeams(List.of(nantesId));
+
+        // Assert: Nantes and its player, then "saint" and "germain" from the rename
+        assertEquals(4, index.getDeadEntries());
+        assertEquals(1, index.getTeamCount());
+        assertEquals(2, index.getPlayerCount());
+    }
+
+    @Test
+    void testAdd_IsIdempotent() {
+        // Arrange
+        PlayerSummaryDTO player = player("Moses Simon", PlayerPosition.ATTAQUANT, nantesId);
+
+        // Act
+        index.addPlayer(player);
+        index.addPlayer(player);
+        index.addTeam(new TeamHitDTO(nantesId, "FC Nantes", "FCN"));
+        index.addPlayer(player("Ghost", PlayerPosition.MILIEU, UUID.randomUUID()));
+
+        // Assert
+        assertEquals(1, index.searchPlayers("moses", 10).size());
+        assertEquals(1, index.searchTeams("nantes", 10).size());
+        assertEquals(4, index.getPlayerCount());
+    }
+
+    private static PlayerSummaryDTO player(String name, PlayerPosition position, UUID teamId) {
+        return new PlayerSummaryDTO(UUID.randomUUID(), name, position, teamId, null);
+    }
+}
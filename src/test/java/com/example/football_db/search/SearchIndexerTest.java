@@ -0,0 +1,69 @@
+package com.example.football_db.search;
+
+import com.example.football_db.dto.search.TeamHitDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.repository.PlayerRepository;
+import com.example.football_db.repository.TeamRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexerTest {
+    @Mock
+    private TeamRepository teamRepository;
+    @Mock
+    private PlayerRepository playerRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SearchIndexer searchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        // Compact once dead entries outnumber half the live ones, from 2 dead entries on
+        searchIndexer = new SearchIndexer(teamRepository, playerRepository, transactionManager, 0.5, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndexer.stop();
+    }
+
+    @Test
+    void testTeamsDeleted_RebuildsOnceDeadEntriesPassTheRatio() {
+        // Arrange
+        List<TeamDTO> teams = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            teams.add(new TeamDTO(UUID.randomUUID(), "Team " + i, "T" + i, new BigDecimal("1000.00"), List.of()));
+        }
+        searchIndexer.teamsInserted(teams);
+        TeamDTO kept = teams.get(3);
+        when(teamRepository.streamSearchEntries())
+                .thenReturn(Stream.of(new TeamHitDTO(kept.getId(), kept.getName(), kept.getAcronym())));
+        when(playerRepository.streamSearchEntries()).thenReturn(Stream.empty());
+
+        // Act: 1 dead of 3 live stays below the ratio, 3 dead of 1 live goes past it
+        searchIndexer.teamsDeleted(List.of(teams.get(0).getId()));
+        verify(teamRepository, after(200).never()).streamSearchEntries();
+        searchIndexer.teamsDeleted(List.of(teams.get(1).getId(), teams.get(2).getId()));
+
+        // Assert
+        verify(teamRepository, timeout(5000)).streamSearchEntries();
+        assertEquals(List.of(kept.getId()),
+                searchIndexer.search("team", 10).getTeams().stream().map(TeamHitDTO::getId).toList());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.football_db.service;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.CursorPageDTO;
+import com.example.football_db.dto.player.PlayerSummaryDTO;
+import com.example.football_db.exception.InvalidCursorException;
+import com.example.football_db.exception.PlayerNotFoundException;
+import com.example.football_db.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerServiceImplTest {
+    @Mock
+    private PlayerRepository playerRepository;
+    @InjectMocks
+    private PlayerServiceImpl playerService;
+
+    private UUID teamId;
+    private PlayerSummaryDTO first;
+    private PlayerSummaryDTO second;
+
+    @BeforeEach
+    void setUp() {
+        teamId = UUID.randomUUID();
+        first = new PlayerSummaryDTO(UUID.randomUUID(), "Dante", PlayerPosition.DEFENSEUR, teamId, "OGC Nice");
+        second = new PlayerSummaryDTO(UUID.randomUUID(), "Dembélé", PlayerPosition.ATTAQUANT, teamId, "OGC Nice");
+    }
+
+    @Test
+    void testSearchPlayers_FirstPageWithNext() {
+        // Arrange
+        when(playerRepository.findSummaries(PlayerPosition.DEFENSEUR, null, "De", null, null, 2))
+                .thenReturn(List.of(first, second));
+
+        // Act
+        CursorPageDTO<PlayerSummaryDTO> page = playerService.searchPlayers(PlayerPosition.DEFENSEUR, null, " De ", null, 1);
+
+        // Assert
+        assertEquals(List.of(first), page.getItems());
+        assertTrue(page.isHasNext());
+        KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+        assertEquals("Dante", cursor.getName());
+        assertEquals(first.getId(), cursor.getId());
+    }
+
+    @Test
+    void testSearchPlayers_AfterCursorLastPage() {
+        // Arrange
+        String cursor = new KeysetCursor(first.getName(), first.getId()).encode();
+        when(playerRepository.findSummaries(null, teamId, null, "Dante", first.getId(), 21))
+                .thenReturn(List.of(second));
+
+        // Act
+        CursorPageDTO<PlayerSummaryDTO> page = playerService.searchPlayers(null, teamId, "  ", cursor, 20);
+
+        // Assert
+        assertEquals(List.of(second), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testSearchPlayers_InvalidCursor() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> playerService.searchPlayers(null, null, null, "%%", 20));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void testGetPlayerById_NotFound() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(playerRepository.findSummaryById(id)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(PlayerNotFoundException.class, () -> playerService.getPlayerById(id));
+    }
+}
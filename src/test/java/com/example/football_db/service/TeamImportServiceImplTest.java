@@ -0,0 +1,193 @@
+package com.example.football_db.service;
+
+import com.example.football_db.constant.BulkItemStatus;
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.team.BulkTeamResultDTO;
+import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.exception.BulkImportException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamImportServiceImplTest {
+    private static final String TEAM_JSON = "{\"name\":\"Team %d\",\"acronym\":\"T%d\",\"budget\":1000,"
+            + "\"players\":[{\"name\":\"Player %d\",\"position\":\"GARDIEN\"}]}";
+    private static final String INVALID_TEAM_JSON = "{\"name\":\"\",\"acronym\":\"X\",\"budget\":-1}";
+
+    @Mock
+    private TeamService teamService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TeamImportServiceImpl teamImportService;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        meterRegistry = new SimpleMeterRegistry();
+        teamImportService = new TeamImportServiceImpl(teamService, JsonMapper.builder().build(), validator,
+                meterRegistry, 2);
+        lenient().when(teamService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CreateTeamDTO> teams = invocation.getArgument(0);
+            return teams.stream().map(team -> UUID.randomUUID()).toList();
+        });
+    }
+
+    @Test
+    void testImportTeams_JsonArray() {
+        // Arrange
+        String body = "[" + team(0) + "," + INVALID_TEAM_JSON + "," + team(1) + "," + team(2) + "]";
+
+        // Act
+        List<BulkTeamResultDTO> results = teamImportService.importTeams(stream(body));
+
+        // Assert
+        assertEquals(4, results.size());
+        assertEquals(BulkItemStatus.CREATED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getId());
+        assertEquals(BulkItemStatus.INVALID, results.get(1).getStatus());
+        assertNull(results.get(1).getId());
+        assertEquals(2, results.get(1).getErrors().size());
+        assertEquals(BulkItemStatus.CREATED, results.get(3).getStatus());
+        assertEquals(3, results.get(3).getIndex());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateTeamDTO>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        verify(teamService, times(2)).saveAll(chunkCaptor.capture());
+        assertEquals(2, chunkCaptor.getAllValues().get(0).size());
+        assertEquals(1, chunkCaptor.getAllValues().get(1).size());
+        CreateTeamDTO first = chunkCaptor.getAllValues().get(0).get(0);
+        assertEquals("Team 0", first.getName());
+        assertEquals(PlayerPosition.GARDIEN, first.getPlayers().get(0).getPosition());
+        assertEquals(3, meterRegistry.get("team.import.items").tag("status", "CREATED").counter().count());
+        assertEquals(1, meterRegistry.get("team.import.items").tag("status", "INVALID").counter().count());
+    }
+
+    @Test
+    void testImportTeams_Ndjson() {
+        // Arrange
+        String body = team(0) + "\n" + team(1) + "\n";
+
+        // Act
+        List<BulkTeamResultDTO> results = teamImportService.importTeams(stream(body));
+
+        // Assert
+        assertEquals(2, results.size());
+        results.forEach(result -> assertEquals(BulkItemStatus.CREATED, result.getStatus()));
+        verify(teamService, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testImportTeams_ChunkFailure() {
+        // Arrange
+        when(teamService.saveAll(anyList())).thenThrow(new IllegalStateException("database unavailable"));
+
+        // Act
+        List<BulkTeamResultDTO> results = teamImportService.importTeams(stream("[" + team(0) + "]"));
+
+        // Assert
+        assertEquals(BulkItemStatus.FAILED, results.get(0).getStatus());
+        assertEquals(List.of("database unavailable"), results.get(0).getErrors());
+    }
+
+    @Test
+    void testImportTeams_NamesLongerThanTheColumnsAreInvalid() {
+        // Arrange
+        String longName = "x".repeat(256);
+        String body = "[{\"name\":\"" + longName + "\",\"acronym\":\"LN\",\"budget\":1000,"
+                + "\"players\":[{\"name\":\"" + "y".repeat(255) + "\",\"position\":\"GARDIEN\"}]},"
+                + "{\"name\":\"Long Player\",\"acronym\":\"LP\",\"budget\":1000,"
+                + "\"players\":[{\"name\":\"" + longName + "\",\"position\":\"GARDIEN\"}]}]";
+
+        // Act
+        List<BulkTeamResultDTO> results = teamImportService.importTeams(stream(body));
+
+        // Assert
+        assertEquals(List.of("name: Name must be at most 255 characters"), results.get(0).getErrors());
+        assertEquals(List.of("players[0].name: Player name must be at most 255 characters"),
+                results.get(1).getErrors());
+        verify(teamService, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testImportTeams_ValuesOfTheWrongTypeAreInvalid() {
+        // Arrange
+        String body = "[{\"name\":\"Bad Budget\",\"acronym\":\"BB\",\"budget\":\"abc\","
+                + "\"players\":[{\"name\":\"Player\",\"position\":\"GARDIEN\"}]},"
+                + "{\"name\":\"Bad Position\",\"acronym\":\"BP\",\"budget\":1000,"
+                + "\"players\":[{\"name\":\"Player\",\"position\":\"LIBERO\"}]}," + team(0) + "]";
+
+        // Act
+        List<BulkTeamResultDTO> results = teamImportService.importTeams(stream(body));
+
+        // Assert
+        assertEquals(List.of(BulkItemStatus.INVALID, BulkItemStatus.INVALID, BulkItemStatus.CREATED),
+                results.stream().map(BulkTeamResultDTO::getStatus).toList());
+        assertTrue(results.get(0).getErrors().get(0).startsWith("budget: "));
+        assertTrue(results.get(1).getErrors().get(0).startsWith("players[0].position: "));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateTeamDTO>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        verify(teamService, times(1)).saveAll(chunkCaptor.capture());
+        assertEquals("Team 0", chunkCaptor.getValue().get(0).getName());
+    }
+
+    @Test
+    void testImportTeams_MalformedJsonBeforeAnySave() {
+        // Act & Assert: the pending team is discarded, so the whole body can be sent again
+        assertThrows(BulkImportException.class,
+                () -> teamImportService.importTeams(stream("[" + team(0) + ", {\"name\": ")));
+        verify(teamService, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testImportTeams_MalformedJsonAfterASavedChunk() {
+        // Arrange: the first chunk of two is saved, the third team is still pending when the body breaks off
+        String body = "[" + team(0) + "," + team(1) + "," + team(2) + ", {\"name\": ";
+
+        // Act
+        List<BulkTeamResultDTO> results = teamImportService.importTeams(stream(body));
+
+        // Assert
+        assertEquals(List.of(BulkItemStatus.CREATED, BulkItemStatus.CREATED, BulkItemStatus.FAILED,
+                BulkItemStatus.INVALID), results.stream().map(BulkTeamResultDTO::getStatus).toList());
+        assertNotNull(results.get(0).getId());
+        assertNotNull(results.get(1).getId());
+        assertNull(results.get(2).getId());
+        assertEquals(List.of("Not saved: the import ended at item 3"), results.get(2).getErrors());
+        assertEquals(3, results.get(3).getIndex());
+        assertTrue(results.get(3).getErrors().get(0).startsWith("Malformed JSON: "));
+        verify(teamService, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testImportTeams_NotAnObject() {
+        // Act & Assert
+        assertThrows(BulkImportException.class, () -> teamImportService.importTeams(stream("[1, 2]")));
+        verify(teamService, never()).saveAll(anyList());
+    }
+
+    private static String team(int index) {
+        return String.format(TEAM_JSON, index, index, index);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
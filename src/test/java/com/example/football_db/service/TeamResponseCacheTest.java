@@ -0,0 +1,69 @@
+package com.example.football_db.service;
+
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.exception.TeamNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamResponseCacheTest {
+    private TeamResponseCache teamResponseCache;
+    private UUID testTeamId;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        teamResponseCache = new TeamResponseCache(JsonMapper.builder().build(), 100, Duration.ofMinutes(1));
+        testTeamId = UUID.randomUUID();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_LoadsOnceThenServesCachedBody() {
+        // Act
+        CachedTeamResponse first = teamResponseCache.get(testTeamId, this::load);
+        CachedTeamResponse second = teamResponseCache.get(testTeamId, this::load);
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals("W/\"2\"", first.getEtag());
+        assertSame(first, teamResponseCache.getIfPresent(testTeamId));
+    }
+
+    @Test
+    void testGet_FailedLoadIsRethrownAndNotCached() {
+        // Act & Assert
+        assertThrows(TeamNotFoundException.class, () -> teamResponseCache.get(testTeamId, id -> {
+            throw new TeamNotFoundException("Team not found with id: " + id);
+        }));
+        assertNull(teamResponseCache.getIfPresent(testTeamId));
+        assertNotNull(teamResponseCache.get(testTeamId, this::load));
+    }
+
+    @Test
+    void testEvict_NextGetReloads() {
+        // Arrange
+        teamResponseCache.get(testTeamId, this::load);
+
+        // Act
+        teamResponseCache.evict(testTeamId);
+        teamResponseCache.get(testTeamId, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    private TeamDTO load(UUID id) {
+        loads.incrementAndGet();
+        return new TeamDTO(id, "FC Barcelona", "FCB", new BigDecimal("100000.00"), List.of(), 2L);
+    }
+}
@@ -1,34 +1,52 @@
 package com.example.football_db.service;
 
+import com.example.football_db.changes.TeamChangeFeed;
 import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.constant.TeamChangeType;
+import com.example.football_db.dto.CursorPageDTO;
 import com.example.football_db.dto.player.CreatePlayerDTO;
 import com.example.football_db.dto.team.CreateTeamDTO;
+import com.example.football_db.dto.team.PatchTeamDTO;
 import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.dto.team.TeamSummaryDTO;
 import com.example.football_db.dto.team.UpdateTeamDTO;
 import com.example.football_db.entity.Player;
 import com.example.football_db.entity.Team;
+import com.example.football_db.exception.InvalidCursorException;
+import com.example.football_db.exception.InsufficientBudgetException;
+import com.example.football_db.exception.TeamConcurrentModificationException;
 import com.example.football_db.exception.TeamNotFoundException;
-import com.example.football_db.repository.PlayerRepository;
+import com.example.football_db.exception.TeamVersionConflictException;
 import com.example.football_db.repository.TeamRepository;
+import com.example.football_db.search.SearchIndexer;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +54,15 @@ class TeamServiceImplTest {
     @Mock
     private TeamRepository teamRepository;
     @Mock
-    private PlayerRepository playerRepository;
+    private EntityManager entityManager;
+    @Mock
+    private TeamResponseCache teamResponseCache;
+    @Mock
+    private TeamCacheEvictor teamCacheEvictor;
+    @Mock
+    private SearchIndexer searchIndexer;
+    @Mock
+    private TeamChangeFeed teamChangeFeed;
     @InjectMocks
     private TeamServiceImpl teamService;
 
@@ -57,8 +83,9 @@ class TeamServiceImplTest {
     void testGetAllTeams_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Team> teamPage = new PageImpl<>(List.of(testTeam), pageable, 1);
-        when(teamRepository.findAll(pageable)).thenReturn(teamPage);
+        Page<UUID> idPage = new PageImpl<>(List.of(testTeamId), pageable, 1);
+        when(teamRepository.findPageOfIds(pageable)).thenReturn(idPage);
+        when(teamRepository.findAllWithPlayersByIdIn(List.of(testTeamId))).thenReturn(List.of(testTeam));
 
         // Act
         Page<TeamDTO> result = teamService.getAllTeams(pageable);
@@ -66,7 +93,112 @@ class TeamServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        verify(teamRepository, times(1)).findAll(pageable);
+        assertEquals(testTeamId, result.getContent().get(0).getId());
+        verify(teamRepository, times(1)).findPageOfIds(pageable);
+        verify(teamRepository, times(1)).findAllWithPlayersByIdIn(List.of(testTeamId));
+    }
+
+    @Test
+    void testGetAllTeams_EmptyPage() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(teamRepository.findPageOfIds(pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        Page<TeamDTO> result = teamService.getAllTeams(pageable);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(teamRepository, never()).findAllWithPlayersByIdIn(any());
+    }
+
+    @Test
+    void testGetTeamSummaries_Success() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        TeamSummaryDTO summary = new TeamSummaryDTO(testTeamId, "FC Barcelona", "FCB", new BigDecimal("100000.00"), 25);
+        when(teamRepository.findAllSummaries(pageable)).thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        // Act
+        Page<TeamSummaryDTO> result = teamService.getTeamSummaries(pageable);
+
+        // Assert
+        assertEquals(25, result.getContent().get(0).getPlayerCount());
+        verify(teamRepository, never()).findAllWithPlayersByIdIn(any());
+    }
+
+    @Test
+    void testGetTeamSlice_Success() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1);
+        when(teamRepository.findSliceOfIds(pageable)).thenReturn(new SliceImpl<>(List.of(testTeamId), pageable, true));
+        when(teamRepository.findAllWithPlayersByIdIn(List.of(testTeamId))).thenReturn(List.of(testTeam));
+
+        // Act
+        Slice<TeamDTO> result = teamService.getTeamSlice(pageable);
+
+        // Assert
+        assertEquals(1, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        verify(teamRepository, never()).count();
+    }
+
+    @Test
+    void testGetTeamsAfter_FirstPageWithNext() {
+        // Arrange
+        UUID nextTeamId = UUID.randomUUID();
+        when(teamRepository.findFirstIdsByNameOrder(Limit.of(2))).thenReturn(List.of(testTeamId, nextTeamId));
+        when(teamRepository.findAllWithPlayersByIdIn(List.of(testTeamId))).thenReturn(List.of(testTeam));
+
+        // Act
+        CursorPageDTO<TeamDTO> result = teamService.getTeamsAfter(null, 1);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.isHasNext());
+        KeysetCursor cursor = KeysetCursor.decode(result.getNextCursor());
+        assertEquals("FC Barcelona", cursor.getName());
+        assertEquals(testTeamId, cursor.getId());
+    }
+
+    @Test
+    void testGetTeamsAfter_LastPage() {
+        // Arrange
+        String cursor = new KeysetCursor("AC Milan", UUID.randomUUID()).encode();
+        when(teamRepository.findIdsByNameOrderAfter(eq("AC Milan"), any(UUID.class), eq(Limit.of(11))))
+                .thenReturn(List.of(testTeamId));
+        when(teamRepository.findAllWithPlayersByIdIn(List.of(testTeamId))).thenReturn(List.of(testTeam));
+
+        // Act
+        CursorPageDTO<TeamDTO> result = teamService.getTeamsAfter(cursor, 10);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetTeamsAfter_InvalidCursor() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> teamService.getTeamsAfter("not-a-cursor", 10));
+        verifyNoInteractions(teamRepository);
+    }
+
+    @Test
+    void testExportTeams_Success() {
+        // Arrange
+        when(teamRepository.streamAllIds()).thenReturn(Stream.of(testTeamId));
+        when(teamRepository.findAllWithPlayersByIdIn(List.of(testTeamId))).thenReturn(List.of(testTeam));
+        List<TeamDTO> exported = new ArrayList<>();
+
+        // Act
+        teamService.exportTeams(exported::add);
+
+        // Assert
+        assertEquals(1, exported.size());
+        assertEquals(testTeamId, exported.get(0).getId());
+        verify(entityManager, times(1)).clear();
     }
 
     @Test
@@ -110,8 +242,10 @@ class TeamServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals("FC Barcelona", result.getName());
-        verify(teamRepository, times(1)).save(any(Team.class));
-        verify(playerRepository, never()).save(any(Player.class));
+        ArgumentCaptor<Team> teamCaptor = ArgumentCaptor.forClass(Team.class);
+        verify(teamRepository, times(1)).save(teamCaptor.capture());
+        assertTrue(teamCaptor.getValue().getPlayers().isEmpty());
+        verify(teamRepository, times(1)).recordChanges(List.of(testTeam.getId()), TeamChangeType.CREATED);
     }
 
     @Test
@@ -127,15 +261,18 @@ class TeamServiceImplTest {
         createTeamDTO.setPlayers(List.of(playerDTO));
 
         when(teamRepository.save(any(Team.class))).thenReturn(testTeam);
-        when(playerRepository.save(any(Player.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         TeamDTO result = teamService.save(createTeamDTO);
 
         // Assert
         assertNotNull(result);
-        verify(teamRepository, times(1)).save(any(Team.class));
-        verify(playerRepository, times(1)).save(any(Player.class));
+        ArgumentCaptor<Team> teamCaptor = ArgumentCaptor.forClass(Team.class);
+        verify(teamRepository, times(1)).save(teamCaptor.capture());
+        List<Player> players = teamCaptor.getValue().getPlayers();
+        assertEquals(1, players.size());
+        assertEquals("Player 1", players.get(0).getName());
+        assertSame(teamCaptor.getValue(), players.get(0).getTeam());
     }
 
     @Test
@@ -147,15 +284,16 @@ class TeamServiceImplTest {
         updateTeamDTO.setBudget(new BigDecimal("120000.00"));
 
         when(teamRepository.findById(testTeamId)).thenReturn(Optional.of(testTeam));
-        when(teamRepository.save(any(Team.class))).thenReturn(testTeam);
+        when(teamRepository.saveAndFlush(any(Team.class))).thenReturn(testTeam);
 
         // Act
-        TeamDTO result = teamService.update(testTeamId, updateTeamDTO);
+        TeamDTO result = teamService.update(testTeamId, updateTeamDTO, null);
 
         // Assert
         assertNotNull(result);
         verify(teamRepository, times(1)).findById(testTeamId);
-        verify(teamRepository, times(1)).save(any(Team.class));
+        verify(teamRepository, times(1)).saveAndFlush(any(Team.class));
+        verify(teamResponseCache, times(1)).evict(testTeamId);
     }
 
     @Test
@@ -165,15 +303,87 @@ class TeamServiceImplTest {
         updateTeamDTO.setName("Updated Name");
 
         when(teamRepository.findById(testTeamId)).thenReturn(Optional.of(testTeam));
-        when(teamRepository.save(any(Team.class))).thenReturn(testTeam);
+        when(teamRepository.saveAndFlush(any(Team.class))).thenReturn(testTeam);
 
         // Act
-        TeamDTO result = teamService.update(testTeamId, updateTeamDTO);
+        TeamDTO result = teamService.update(testTeamId, updateTeamDTO, null);
 
         // Assert
         assertNotNull(result);
         verify(teamRepository, times(1)).findById(testTeamId);
-        verify(teamRepository, times(1)).save(any(Team.class));
+        verify(teamRepository, times(1)).saveAndFlush(any(Team.class));
+    }
+
+    @Test
+    void testUpdate_ExpectedVersionMatches() {
+        // Arrange
+        testTeam.setVersion(3L);
+        UpdateTeamDTO updateTeamDTO = new UpdateTeamDTO();
+        updateTeamDTO.setBudget(new BigDecimal("120000.00"));
+
+        when(teamRepository.findById(testTeamId)).thenReturn(Optional.of(testTeam));
+        when(teamRepository.saveAndFlush(any(Team.class))).thenReturn(testTeam);
+
+        // Act
+        TeamDTO result = teamService.update(testTeamId, updateTeamDTO, 3L);
+
+        // Assert
+        assertEquals(new BigDecimal("120000.00"), result.getBudget());
+        assertEquals(3L, result.getVersion());
+    }
+
+    @Test
+    void testUpdate_ExpectedVersionStale() {
+        // Arrange
+        testTeam.setVersion(4L);
+        UpdateTeamDTO updateTeamDTO = new UpdateTeamDTO();
+        updateTeamDTO.setName("Updated Name");
+
+        when(teamRepository.findById(testTeamId)).thenReturn(Optional.of(testTeam));
+
+        // Act & Assert
+        assertThrows(TeamVersionConflictException.class, () -> teamService.update(testTeamId, updateTeamDTO, 3L));
+        verify(teamRepository, never()).saveAndFlush(any(Team.class));
+        verify(teamResponseCache, never()).evict(testTeamId);
+    }
+
+    @Test
+    void testUpdate_ConcurrentModification() {
+        // Arrange
+        UpdateTeamDTO updateTeamDTO = new UpdateTeamDTO();
+        updateTeamDTO.setName("Updated Name");
+
+        when(teamRepository.findById(testTeamId)).thenReturn(Optional.of(testTeam));
+        when(teamRepository.saveAndFlush(any(Team.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Team.class, testTeamId));
+
+        // Act & Assert
+        assertThrows(TeamConcurrentModificationException.class, () -> teamService.update(testTeamId, updateTeamDTO, null));
+    }
+
+    @Test
+    void testUpdate_ConcurrentModificationWithExpectedVersion() {
+        // Arrange
+        testTeam.setVersion(3L);
+        UpdateTeamDTO updateTeamDTO = new UpdateTeamDTO();
+        updateTeamDTO.setName("Updated Name");
+
+        when(teamRepository.findById(testTeamId)).thenReturn(Optional.of(testTeam));
+        when(teamRepository.saveAndFlush(any(Team.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Team.class, testTeamId));
+
+        // Act & Assert
+        assertThrows(TeamVersionConflictException.class,
+                () -> teamService.update(testTeamId, updateTeamDTO, 3L));
+    }
+
+    @Test
+    void testGetTeamVersion_NotFound() {
+        // Arrange
+        when(teamRepository.findVersionById(testTeamId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(TeamNotFoundException.class, () -> teamService.getTeamVersion(testTeamId));
     }
 
     @Test
@@ -185,32 +395,115 @@ class TeamServiceImplTest {
         when(teamRepository.findById(testTeamId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(TeamNotFoundException.class, () -> teamService.update(testTeamId, updateTeamDTO));
+        assertThrows(TeamNotFoundException.class, () -> teamService.update(testTeamId, updateTeamDTO, null));
         verify(teamRepository, times(1)).findById(testTeamId);
     }
 
+    @Test
+    void testPatch_Success() {
+        // Arrange
+        PatchTeamDTO patchTeamDTO = new PatchTeamDTO();
+        patchTeamDTO.setBudgetDelta(new BigDecimal("2500.00"));
+        when(teamRepository.patch(testTeamId, null, null, null, new BigDecimal("2500.00"), null))
+                .thenReturn(Optional.of(2L));
+
+        // Act
+        long version = teamService.patch(testTeamId, patchTeamDTO, null);
+
+        // Assert
+        assertEquals(2L, version);
+        verify(teamRepository, never()).findById(any());
+        verify(teamRepository, never()).findVersionById(any());
+        verify(teamRepository, times(1)).recordChanges(List.of(testTeamId), TeamChangeType.UPDATED);
+        verify(teamCacheEvictor, times(1)).evictTeam(testTeamId);
+        verify(teamResponseCache, times(1)).evict(testTeamId);
+    }
+
+    @Test
+    void testPatch_TeamNotFound() {
+        // Arrange
+        PatchTeamDTO patchTeamDTO = new PatchTeamDTO();
+        patchTeamDTO.setName("Updated Name");
+        when(teamRepository.patch(testTeamId, "Updated Name", null, null, BigDecimal.ZERO, null)).thenReturn(Optional.empty());
+        when(teamRepository.findVersionById(testTeamId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(TeamNotFoundException.class, () -> teamService.patch(testTeamId, patchTeamDTO, null));
+        verify(teamResponseCache, never()).evict(any());
+    }
+
+    @Test
+    void testPatch_VersionMismatch() {
+        // Arrange
+        PatchTeamDTO patchTeamDTO = new PatchTeamDTO();
+        patchTeamDTO.setName("Updated Name");
+        when(teamRepository.patch(testTeamId, "Updated Name", null, null, BigDecimal.ZERO, 1L)).thenReturn(Optional.empty());
+        when(teamRepository.findVersionById(testTeamId)).thenReturn(Optional.of(2L));
+
+        // Act & Assert
+        assertThrows(TeamVersionConflictException.class, () -> teamService.patch(testTeamId, patchTeamDTO, 1L));
+    }
+
+    @Test
+    void testPatch_BudgetWouldNotBePositive() {
+        // Arrange
+        PatchTeamDTO patchTeamDTO = new PatchTeamDTO();
+        patchTeamDTO.setBudgetDelta(new BigDecimal("-200000.00"));
+        when(teamRepository.patch(testTeamId, null, null, null, new BigDecimal("-200000.00"), null)).thenReturn(Optional.empty());
+        when(teamRepository.findVersionById(testTeamId)).thenReturn(Optional.of(0L));
+
+        // Act & Assert
+        assertThrows(InsufficientBudgetException.class, () -> teamService.patch(testTeamId, patchTeamDTO, null));
+    }
+
     @Test
     void testDeleteById_Success() {
         // Arrange
-        when(teamRepository.findById(testTeamId)).thenReturn(Optional.of(testTeam));
+        UUID playerId = UUID.randomUUID();
+        when(teamRepository.deleteRosters(List.of(testTeamId))).thenReturn(List.of(playerId));
+        when(teamRepository.deleteTeams(List.of(testTeamId))).thenReturn(List.of(testTeamId));
 
         // Act
         teamService.deleteById(testTeamId);
 
         // Assert
-        verify(teamRepository, times(1)).findById(testTeamId);
-        verify(teamRepository, times(1)).deleteById(testTeamId);
+        verify(teamRepository, never()).findById(any());
+        verify(teamRepository, times(1)).recordChanges(List.of(testTeamId), TeamChangeType.DELETED);
+        verify(teamChangeFeed, times(1)).changesRecorded();
+        verify(teamCacheEvictor, times(1)).evictDeleted(List.of(testTeamId), List.of(playerId));
+        verify(teamResponseCache, times(1)).evict(testTeamId);
     }
 
     @Test
     void testDeleteById_NotFound() {
         // Arrange
-        when(teamRepository.findById(testTeamId)).thenReturn(Optional.empty());
+        when(teamRepository.deleteTeams(List.of(testTeamId))).thenReturn(List.of());
 
         // Act & Assert
         assertThrows(TeamNotFoundException.class, () -> teamService.deleteById(testTeamId));
-        verify(teamRepository, times(1)).findById(testTeamId);
-        verify(teamRepository, never()).deleteById(testTeamId);
+        verify(teamResponseCache, never()).evict(any());
+    }
+
+    @Test
+    void testDeleteAllById_DeletesDistinctIdsInChunks() {
+        // Arrange
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        ids.add(ids.get(0));
+        when(teamRepository.deleteTeams(anyList())).thenReturn(ids.subList(0, 1000), ids.subList(1000, 1499));
+
+        // Act
+        int deleted = teamService.deleteAllById(ids);
+
+        // Assert
+        assertEquals(1499, deleted);
+        verify(teamRepository, times(1)).deleteRosters(ids.subList(0, 1000));
+        verify(teamRepository, times(1)).deleteTeams(ids.subList(0, 1000));
+        verify(teamRepository, times(1)).deleteTeams(ids.subList(1000, 1500));
+        verify(teamCacheEvictor, times(1)).evictDeleted(ids.subList(0, 1499), List.of());
+        verify(teamResponseCache, times(1)).evictAll(ids.subList(0, 1500));
     }
 }
 
@@ -0,0 +1,248 @@
+package com.example.football_db.writebehind;
+
+import com.example.football_db.constant.PlayerPosition;
+import com.example.football_db.dto.player.PlayerDTO;
+import com.example.football_db.dto.team.TeamDTO;
+import com.example.football_db.exception.WriteBehindQueueFullException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamCommandLogTest {
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testPending_AfterReopen() throws IOException {
+        // Arrange
+        Path path = directory.resolve("commands.log");
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            log.append(bytes("first"));
+            log.append(bytes("second"));
+        }
+
+        // Act
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            List<TeamCommandLog.Entry> pending = log.pending(10);
+
+            // Assert
+            assertEquals(List.of("first", "second"), pending.stream().map(TeamCommandLogTest::text).toList());
+        }
+    }
+
+    @Test
+    void testMarkDrained_SurvivesReopen() throws IOException {
+        // Arrange
+        Path path = directory.resolve("commands.log");
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            log.append(bytes("first"));
+            log.append(bytes("second"));
+            log.append(bytes("third"));
+
+            // Act
+            log.markDrained(log.pending(2).getLast());
+        }
+
+        // Assert
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            assertEquals(List.of("third"), log.pending(10).stream().map(TeamCommandLogTest::text).toList());
+        }
+    }
+
+    @Test
+    void testMarkDrained_AllStartsOver() throws IOException, InterruptedException {
+        try (TeamCommandLog log = new TeamCommandLog(directory.resolve("commands.log"), CAPACITY)) {
+            // Arrange: fill most of the log, then drain it
+            byte[] payload = new byte[1000];
+            for (int i = 0; i < 3; i++) {
+                log.append(payload);
+            }
+            log.markDrained(log.pending(10).getLast());
+
+            // Act
+            log.append(payload);
+            log.append(payload);
+
+            // Assert
+            assertEquals(2, log.pending(10).size());
+            assertTrue(log.awaitPending(0, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void testAppend_Full() throws IOException {
+        try (TeamCommandLog log = new TeamCommandLog(directory.resolve("commands.log"), CAPACITY)) {
+            // Arrange
+            log.append(new byte[3000]);
+
+            // Act & Assert
+            assertThrows(WriteBehindQueueFullException.class, () -> log.append(new byte[1100]));
+            assertEquals(1, log.pending(10).size());
+        }
+    }
+
+    @Test
+    void testAppend_WrapsIntoDrainedSpace() throws IOException {
+        // Arrange: two of three records drained, leaving no room at the end of the file for two more
+        Path path = directory.resolve("commands.log");
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            for (String text : List.of("a", "b", "c")) {
+                log.append(padded(text, 1000));
+            }
+            log.markDrained(log.pending(2).getLast());
+
+            // Act
+            log.append(padded("d", 1000));
+            log.append(padded("e", 1000));
+
+            // Assert
+            assertEquals(List.of("c", "d", "e"), log.pending(10).stream().map(TeamCommandLogTest::key).toList());
+            assertEquals(3 * 1008, log.pendingBytes());
+        }
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            assertEquals(List.of("c", "d", "e"), log.pending(10).stream().map(TeamCommandLogTest::key).toList());
+        }
+    }
+
+    @Test
+    void testAppend_ReusesDrainedSpaceWhileRecordsArePending() throws IOException {
+        try (TeamCommandLog log = new TeamCommandLog(directory.resolve("commands.log"), CAPACITY)) {
+            // Arrange
+            log.append(padded("0", 500));
+
+            // Act: the log never runs empty, yet ten times its capacity goes through it
+            for (int i = 1; i <= 80; i++) {
+                log.append(padded(Integer.toString(i), 500));
+                log.markDrained(log.pending(1).getFirst());
+            }
+
+            // Assert
+            assertEquals(List.of("80"), log.pending(10).stream().map(TeamCommandLogTest::key).toList());
+        }
+    }
+
+    @Test
+    void testAppend_ConcurrentDrainPastCapacity() throws Exception {
+        int count = 2000;
+        Path path = directory.resolve("commands.log");
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            // Arrange: the drainer takes a few records at a time while the appender keeps going
+            CompletableFuture<List<String>> drained = CompletableFuture.supplyAsync(() -> {
+                List<String> keys = new ArrayList<>();
+                try {
+                    while (keys.size() < count) {
+                        if (log.awaitPending(10, TimeUnit.SECONDS)) {
+                            List<TeamCommandLog.Entry> entries = log.pending(3);
+                            entries.forEach(entry -> keys.add(key(entry)));
+                            log.markDrained(entries.getLast());
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return keys;
+            });
+
+            // Act: 2000 records of 108 bytes, about 50 times the capacity
+            for (int i = 0; i < count; i++) {
+                while (true) {
+                    try {
+                        log.append(padded(Integer.toString(i), 100));
+                        break;
+                    } catch (WriteBehindQueueFullException e) {
+                        // The drainer is behind: retry once it has made room
+                        Thread.onSpinWait();
+                    }
+                }
+            }
+
+            // Assert
+            assertEquals(IntStream.range(0, count).mapToObj(Integer::toString).toList(),
+                    drained.get(30, TimeUnit.SECONDS));
+            assertEquals(0, log.pendingBytes());
+        }
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            assertTrue(log.pending(10).isEmpty());
+        }
+    }
+
+    @Test
+    void testPending_StopsAtTornRecord() throws IOException {
+        // Arrange: corrupt the payload of the second record, as a crash in the middle of a flush would
+        Path path = directory.resolve("commands.log");
+        int secondPayloadPosition;
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            log.append(bytes("first"));
+            secondPayloadPosition = log.pending(1).getFirst().getEnd() + 8;
+            log.append(bytes("second"));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes("x")), secondPayloadPosition);
+        }
+
+        // Act
+        try (TeamCommandLog log = new TeamCommandLog(path, CAPACITY)) {
+            // Assert
+            assertEquals(List.of("first"), log.pending(10).stream().map(TeamCommandLogTest::text).toList());
+        }
+    }
+
+    @Test
+    void testEncode_RoundTrip() {
+        // Arrange
+        TeamDTO team = new TeamDTO(UUID.randomUUID(), "Paris Saint-Germain", "PSG", new BigDecimal("1500000.50"),
+                List.of(new PlayerDTO(UUID.randomUUID(), "Kylian Mbappé", PlayerPosition.ATTAQUANT),
+                        new PlayerDTO(UUID.randomUUID(), "Marquinhos", null)));
+
+        // Act
+        TeamDTO decoded = TeamWriteBehindQueue.decode(TeamWriteBehindQueue.encode(team));
+
+        // Assert
+        assertEquals(team.getId(), decoded.getId());
+        assertEquals("Paris Saint-Germain", decoded.getName());
+        assertEquals("PSG", decoded.getAcronym());
+        assertEquals(new BigDecimal("1500000.50"), decoded.getBudget());
+        assertEquals(2, decoded.getPlayers().size());
+        assertEquals(team.getPlayers().get(0).getId(), decoded.getPlayers().get(0).getId());
+        assertEquals("Kylian Mbappé", decoded.getPlayers().get(0).getName());
+        assertEquals(PlayerPosition.ATTAQUANT, decoded.getPlayers().get(0).getPosition());
+        assertNull(decoded.getPlayers().get(1).getPosition());
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // The text followed by zeros up to the size, so that records of a known size can be told apart
+    private static byte[] padded(String text, int size) {
+        byte[] payload = new byte[size];
+        byte[] key = bytes(text);
+        System.arraycopy(key, 0, payload, 0, key.length);
+        return payload;
+    }
+
+    private static String key(TeamCommandLog.Entry entry) {
+        return text(entry).replace("\0", "");
+    }
+
+    private static String text(TeamCommandLog.Entry entry) {
+        return new String(entry.getPayload(), StandardCharsets.UTF_8);
+    }
+}